@@ -0,0 +1,73 @@
+package com.capgemini.chess.algorithms.data;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+
+/**
+ * Read-only view of a chess position. Square index of the field (x, y) is
+ * y * 8 + x.
+ *
+ */
+public interface BoardView {
+
+	/**
+	 * Gets chess piece from board based on given square index
+	 *
+	 * @param square
+	 *            square index
+	 * @return chess piece or null if the square is empty
+	 */
+	Piece getPieceAt(int square);
+
+	long getPieceBitboard(Piece piece);
+
+	long getOccupancy(Color color);
+
+	long getOccupancy();
+
+	/**
+	 * Gets square of the king of given color
+	 *
+	 * @param color
+	 *            king color
+	 * @return square index or -1 if there is no such king
+	 */
+	int getKingSquare(Color color);
+
+	Color getSideToMove();
+
+	int getCastlingRights();
+
+	/**
+	 * Gets square passed by the pawn which moved two steps in the last move.
+	 *
+	 * @return en passant square or -1
+	 */
+	int getEnPassantSquare();
+
+	int getHalfmoveClock();
+
+	long getZobristKey();
+
+	/**
+	 * Checks if any piece of given color attacks the square.
+	 *
+	 * @param square
+	 *            square index
+	 * @param byColor
+	 *            color of the attacking pieces
+	 * @return true if the square is attacked
+	 */
+	boolean isSquareAttacked(int square, Color byColor);
+
+	/**
+	 * Gets pieces of given color which attack the square.
+	 *
+	 * @param square
+	 *            square index
+	 * @param byColor
+	 *            color of the attacking pieces
+	 * @return bitboard of the attacking pieces
+	 */
+	long getAttackers(int square, Color byColor);
+}
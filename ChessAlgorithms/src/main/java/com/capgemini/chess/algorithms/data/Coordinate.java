@@ -1,21 +1,72 @@
 package com.capgemini.chess.algorithms.data;
 
+import com.capgemini.chess.algorithms.data.generated.Board;
+
 /**
  * Coordinates of Chess Piece.
+ * Coordinates are immutable, instances for the fields of the board are
+ * shared and can be obtained with {@link #of(int, int)}.
  * 
  * @author Michal Bejm
  *
  */
 public class Coordinate {
 
-	private int x;
-	private int y;
+	private static final Coordinate[] BOARD_COORDINATES = new Coordinate[Board.SIZE * Board.SIZE];
+
+	static {
+		for (int square = 0; square < BOARD_COORDINATES.length; square++) {
+			BOARD_COORDINATES[square] = new Coordinate(square % Board.SIZE, square / Board.SIZE);
+		}
+	}
+
+	private final int x;
+	private final int y;
 
 	public Coordinate(int x, int y) {
 		this.x = x;
 		this.y = y;
 	}
 
+	/**
+	 * Gets coordinates of given field. Fields of the board are served from
+	 * preallocated instances, new object is created only for coordinates out
+	 * of the board range.
+	 * 
+	 * @param x
+	 *            column
+	 * @param y
+	 *            row
+	 * @return coordinates
+	 */
+	public static Coordinate of(int x, int y) {
+		if (x >= 0 && x < Board.SIZE && y >= 0 && y < Board.SIZE) {
+			return BOARD_COORDINATES[y * Board.SIZE + x];
+		}
+		return new Coordinate(x, y);
+	}
+
+	/**
+	 * Gets coordinates of given square index.
+	 * 
+	 * @param square
+	 *            square index (y * SIZE + x)
+	 * @return coordinates
+	 */
+	public static Coordinate of(int square) {
+		return BOARD_COORDINATES[square];
+	}
+
+	/**
+	 * Gets square index of the coordinates (y * SIZE + x). Meaningful only for
+	 * coordinates in the board range.
+	 * 
+	 * @return square index
+	 */
+	public int getSquare() {
+		return y * Board.SIZE + x;
+	}
+
 	public int getX() {
 		return x;
 	}
@@ -0,0 +1,134 @@
+package com.capgemini.chess.algorithms.data;
+
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+
+/**
+ * Chess move packed into a single int.
+ *
+ * Bits 0-5 keep the 'from' square index, bits 6-11 the 'to' square index,
+ * bits 12-14 the move type, bits 15-18 the moved piece, bits 19-22 the
+ * captured piece and bits 23-26 the promotion piece. Enum values are stored
+ * as ordinal + 1, so 0 stands for no value.
+ *
+ */
+public final class EncodedMove {
+
+	private static final int SQUARE_MASK = 0x3F;
+	private static final int TYPE_MASK = 0x7;
+	private static final int PIECE_MASK = 0xF;
+
+	private static final int TO_SHIFT = 6;
+	private static final int TYPE_SHIFT = 12;
+	private static final int MOVED_PIECE_SHIFT = 15;
+	private static final int CAPTURED_PIECE_SHIFT = 19;
+	private static final int PROMOTION_PIECE_SHIFT = 23;
+
+	private static final MoveType[] MOVE_TYPES = MoveType.values();
+	private static final Piece[] PIECES = Piece.values();
+
+	private EncodedMove() {
+	}
+
+	/**
+	 * Packs move data into an int.
+	 *
+	 * @param from
+	 *            square index of 'from' field
+	 * @param to
+	 *            square index of 'to' field
+	 * @param type
+	 *            move type, may be null
+	 * @param movedPiece
+	 *            moved piece, may be null
+	 * @param capturedPiece
+	 *            captured piece or null
+	 * @param promotionPiece
+	 *            piece the pawn is promoted to or null
+	 * @return encoded move
+	 */
+	public static int encode(int from, int to, MoveType type, Piece movedPiece, Piece capturedPiece,
+			Piece promotionPiece) {
+		return from | (to << TO_SHIFT) | (ordinalOf(type) << TYPE_SHIFT) | (ordinalOf(movedPiece) << MOVED_PIECE_SHIFT)
+				| (ordinalOf(capturedPiece) << CAPTURED_PIECE_SHIFT)
+				| (ordinalOf(promotionPiece) << PROMOTION_PIECE_SHIFT);
+	}
+
+	/**
+	 * Packs move object into an int. Captured and promotion pieces are not
+	 * known from the move object, so they are left empty.
+	 *
+	 * @param move
+	 *            move object
+	 * @return encoded move
+	 */
+	public static int encode(Move move) {
+		return encode(move, null, null);
+	}
+
+	/**
+	 * Packs move object into an int.
+	 *
+	 * @param move
+	 *            move object
+	 * @param capturedPiece
+	 *            captured piece or null
+	 * @param promotionPiece
+	 *            piece the pawn is promoted to or null
+	 * @return encoded move
+	 */
+	public static int encode(Move move, Piece capturedPiece, Piece promotionPiece) {
+		return encode(move.getFrom().getSquare(), move.getTo().getSquare(), move.getType(), move.getMovedPiece(),
+				capturedPiece, promotionPiece);
+	}
+
+	/**
+	 * Unpacks encoded move into a move object. Captured and promotion pieces
+	 * are not part of the move object and are dropped.
+	 *
+	 * @param move
+	 *            encoded move
+	 * @return move object
+	 */
+	public static Move toMove(int move) {
+		Move result = new Move();
+		result.setFrom(Coordinate.of(getFrom(move)));
+		result.setTo(Coordinate.of(getTo(move)));
+		result.setType(getType(move));
+		result.setMovedPiece(getMovedPiece(move));
+		return result;
+	}
+
+	public static int getFrom(int move) {
+		return move & SQUARE_MASK;
+	}
+
+	public static int getTo(int move) {
+		return (move >>> TO_SHIFT) & SQUARE_MASK;
+	}
+
+	public static MoveType getType(int move) {
+		int ordinal = (move >>> TYPE_SHIFT) & TYPE_MASK;
+		return ordinal == 0 ? null : MOVE_TYPES[ordinal - 1];
+	}
+
+	public static Piece getMovedPiece(int move) {
+		return pieceOf((move >>> MOVED_PIECE_SHIFT) & PIECE_MASK);
+	}
+
+	public static Piece getCapturedPiece(int move) {
+		return pieceOf((move >>> CAPTURED_PIECE_SHIFT) & PIECE_MASK);
+	}
+
+	public static Piece getPromotionPiece(int move) {
+		return pieceOf((move >>> PROMOTION_PIECE_SHIFT) & PIECE_MASK);
+	}
+
+	private static int ordinalOf(Enum<?> value) {
+		return value == null ? 0 : value.ordinal() + 1;
+	}
+
+	private static Piece pieceOf(int ordinal) {
+		return ordinal == 0 ? null : PIECES[ordinal - 1];
+	}
+}
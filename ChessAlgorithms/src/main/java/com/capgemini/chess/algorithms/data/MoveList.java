@@ -0,0 +1,159 @@
+package com.capgemini.chess.algorithms.data;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of encoded moves (see {@link EncodedMove}) backed by an int
+ * array. Meant to be reused - clear() keeps the allocated capacity.
+ *
+ */
+public class MoveList {
+
+	private static final int DEFAULT_CAPACITY = 32;
+
+	private int[] moves;
+	private int size;
+
+	public MoveList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public MoveList(int initialCapacity) {
+		this.moves = new int[Math.max(initialCapacity, 1)];
+	}
+
+	/**
+	 * Creates copy of the list.
+	 *
+	 * @param moveList
+	 *            copied list
+	 */
+	public MoveList(MoveList moveList) {
+		MoveList source = moveList instanceof UnmodifiableMoveList ? ((UnmodifiableMoveList) moveList).moveList
+				: moveList;
+		this.moves = Arrays.copyOf(source.moves, Math.max(source.moves.length, 1));
+		this.size = source.size;
+	}
+
+	/**
+	 * Creates read-only view of the list, which follows its changes.
+	 *
+	 * @param moveList
+	 *            viewed list
+	 * @return view throwing UnsupportedOperationException on changes
+	 */
+	public static MoveList unmodifiableView(MoveList moveList) {
+		return new UnmodifiableMoveList(moveList);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void add(int move) {
+		if (size == moves.length) {
+			moves = Arrays.copyOf(moves, size * 2);
+		}
+		moves[size++] = move;
+	}
+
+	/**
+	 * Adds move object to the list.
+	 *
+	 * @param move
+	 *            move object
+	 */
+	public void add(Move move) {
+		add(EncodedMove.encode(move));
+	}
+
+	public int get(int index) {
+		checkIndex(index);
+		return moves[index];
+	}
+
+	/**
+	 * Gets move from the list converted to the move object.
+	 *
+	 * @param index
+	 *            index of the move
+	 * @return move object
+	 */
+	public Move getMove(int index) {
+		return EncodedMove.toMove(get(index));
+	}
+
+	public int getLast() {
+		return get(size - 1);
+	}
+
+	public int removeLast() {
+		int lastMove = getLast();
+		size--;
+		return lastMove;
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	private static final class UnmodifiableMoveList extends MoveList {
+
+		private final MoveList moveList;
+
+		UnmodifiableMoveList(MoveList moveList) {
+			super(1);
+			this.moveList = moveList;
+		}
+
+		@Override
+		public int size() {
+			return moveList.size();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return moveList.isEmpty();
+		}
+
+		@Override
+		public int get(int index) {
+			return moveList.get(index);
+		}
+
+		@Override
+		public int getLast() {
+			return moveList.getLast();
+		}
+
+		@Override
+		public void add(int move) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void add(Move move) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int removeLast() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void clear() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
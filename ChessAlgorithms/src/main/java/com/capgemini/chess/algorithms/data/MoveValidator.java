@@ -1,16 +1,44 @@
 package com.capgemini.chess.algorithms.data;
 
 import com.capgemini.chess.algorithms.data.enums.MoveType;
-import com.capgemini.chess.algorithms.data.generated.Board;
 
+/**
+ * Moving rules of a piece. Validators keep no state, so one instance can be
+ * shared by all boards and threads.
+ *
+ */
 public interface MoveValidator {
 
-	boolean isMovePossible(Coordinate from, Coordinate to);
+	/**
+	 * Checks if the move is possible for the piece according to its moving
+	 * rules.
+	 *
+	 * @param board
+	 *            position the move is made in
+	 * @param from
+	 *            square index of 'from' field
+	 * @param to
+	 *            square index of 'to' field
+	 * @return type of the move or null if the move is not possible
+	 */
+	MoveType validate(BoardView board, int from, int to);
 
-	MoveType getTypeOfTheValidatedMove();
+	default MoveType validate(BoardView board, Coordinate from, Coordinate to) {
+		return validate(board, from.getSquare(), to.getSquare());
+	}
 
-	void setCurrentBoard(Board currentBoard);
-	
-	
+	/**
+	 * Adds moves of the piece standing on the square, which are possible
+	 * according to its moving rules. Moves leaving own king in check are not
+	 * filtered out.
+	 *
+	 * @param board
+	 *            position the moves are made in
+	 * @param from
+	 *            square index of the piece
+	 * @param moves
+	 *            list the encoded moves are added to
+	 */
+	void generateMoves(BoardView board, int from, MoveList moves);
 
 }
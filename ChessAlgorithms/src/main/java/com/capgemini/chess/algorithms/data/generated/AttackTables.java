@@ -0,0 +1,314 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+
+/**
+ * Precomputed attack sets of pieces, indexed by square.
+ *
+ * Attacks of sliding pieces are looked up with magic bitboards: occupancy of
+ * the squares relevant for the slider is multiplied by the magic number of
+ * the square and shifted, which gives the index of the attack set in the
+ * table of the square. Magic numbers were found with a trial search over
+ * random numbers with few bits set; the tables are filled once, when the
+ * class is loaded.
+ *
+ */
+public final class AttackTables {
+
+	static final long[] KNIGHT_ATTACKS = new long[Board.NUMBER_OF_SQUARES];
+	static final long[] KING_ATTACKS = new long[Board.NUMBER_OF_SQUARES];
+	// squares attacked by a pawn of the color standing on the square
+	static final long[][] PAWN_ATTACKS = new long[Color.values().length][Board.NUMBER_OF_SQUARES];
+
+	// rays going towards higher square indexes come first
+	private static final int[][] STRAIGHT_DIRECTIONS = { { 1, 0 }, { 0, 1 }, { -1, 0 }, { 0, -1 } };
+	private static final int[][] DIAGONAL_DIRECTIONS = { { 1, 1 }, { -1, 1 }, { -1, -1 }, { 1, -1 } };
+	private static final long[][] STRAIGHT_RAYS = new long[STRAIGHT_DIRECTIONS.length][Board.NUMBER_OF_SQUARES];
+	private static final long[][] DIAGONAL_RAYS = new long[DIAGONAL_DIRECTIONS.length][Board.NUMBER_OF_SQUARES];
+
+	private static final int[][] KNIGHT_STEPS = { { 2, 1 }, { 1, 2 }, { -1, 2 }, { -2, 1 }, { -2, -1 }, { -1, -2 },
+			{ 1, -2 }, { 2, -1 } };
+	private static final int[][] KING_STEPS = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 }, { 1, 1 }, { 1, -1 },
+			{ -1, 1 }, { -1, -1 } };
+
+	private static final long[] ROOK_MAGICS = {
+			0x7080024000108620L, 0x0040200010004000L, 0x0100081020004500L, 0x3880048110000801L,
+			0x4200200200080410L, 0x2400900400082002L, 0x45000B000F860004L, 0x220004038040A116L,
+			0x010280002084400AL, 0x0026402004401000L, 0x0045002002110048L, 0x0043002300100009L,
+			0x004280801C002800L, 0x4001800401801200L, 0x0022000438A20001L, 0x408100120040A100L,
+			0x0160808000401020L, 0x0020004008205000L, 0x0000430010200300L, 0x4001818008005000L,
+			0x1D04008008008004L, 0x6002080110204004L, 0x2009040001081002L, 0x8094020020804401L,
+			0x00C00049800080A7L, 0x80015000C0002000L, 0xC000220200108040L, 0x00A8018480100108L,
+			0x0108000880800400L, 0x0A00040080020080L, 0x1A01080400104A31L, 0x000200A200011044L,
+			0x4080006001400040L, 0x240080400C802000L, 0x880500104100200AL, 0x0000080284801000L,
+			0x0900800800800401L, 0x5002018402001008L, 0x0000488104001002L, 0x8402048862000411L,
+			0x0000802040008000L, 0x2C20500020004000L, 0x001A004080120020L, 0x80800A0040220010L,
+			0x0204008008008004L, 0x1218020004008080L, 0x0140025118040050L, 0x0824030C40820024L,
+			0x0040220081005200L, 0x0040004421108300L, 0x4420041001208480L, 0x0862082010420200L,
+			0x0D02001861100E00L, 0x8126001008040200L, 0x0064110218D00400L, 0x0427000482284100L,
+			0x0000108040220102L, 0x0000804020160102L, 0x0000400812008022L, 0x0000050010002009L,
+			0x0102001108604402L, 0x1002000110844802L, 0x0401001200440781L, 0x0281000045802203L };
+	private static final long[] BISHOP_MAGICS = {
+			0x0420420088048088L, 0x0020A242184102C0L, 0x4208084043861180L, 0x0054251201004000L,
+			0x0844050400005004L, 0x0515042044040004L, 0x4021010802404004L, 0x3000940488081800L,
+			0x0000C00401020208L, 0x01022011112A0884L, 0x0D80100440404000L, 0x0520044040800400L,
+			0x8444020210002040L, 0x8008028820180200L, 0x0180040A01300800L, 0x0000842208048480L,
+			0x0910004004083084L, 0x00081802B8010420L, 0x00140428004C0008L, 0x0008000682004610L,
+			0x0100820400E00200L, 0x000B000811089000L, 0x4812024401240200L, 0x820040103A080404L,
+			0x8024100422200120L, 0x001030B40C234604L, 0x0020480044002400L, 0x0040040085101020L,
+			0x0040840105802000L, 0x4210010000241101L, 0x1202040200410802L, 0x4040608000420802L,
+			0x0218048401512000L, 0xE008080200090202L, 0x8004060110180040L, 0x0000A00800150104L,
+			0x1C01020400020500L, 0x0001080A00002206L, 0x8012040860140204L, 0x010C004202044329L,
+			0x1084108288091031L, 0x4084046202002800L, 0x2001004232001002L, 0x2000104208000080L,
+			0x2108200414000040L, 0x0001200089010A81L, 0x3219A20492004400L, 0x0010148107010148L,
+			0x4402080402080080L, 0x4210844118600100L, 0x4800050401040410L, 0x0800006020880010L,
+			0x30080020020C80C0L, 0x02C446040806040CL, 0x0010021001021044L, 0x4002182801015202L,
+			0x0409820800A2080AL, 0x004000C608050808L, 0x0800008044040412L, 0x0410010280840408L,
+			0x1210A02012420200L, 0x8302400404084200L, 0x020090042840C400L, 0x0808100088004086L };
+
+	private static final long[] ROOK_MASKS = new long[Board.NUMBER_OF_SQUARES];
+	private static final int[] ROOK_SHIFTS = new int[Board.NUMBER_OF_SQUARES];
+	private static final long[][] ROOK_ATTACKS = new long[Board.NUMBER_OF_SQUARES][];
+
+	private static final long[] BISHOP_MASKS = new long[Board.NUMBER_OF_SQUARES];
+	private static final int[] BISHOP_SHIFTS = new int[Board.NUMBER_OF_SQUARES];
+	private static final long[][] BISHOP_ATTACKS = new long[Board.NUMBER_OF_SQUARES][];
+
+	private static final long[][] SQUARES_BETWEEN = new long[Board.NUMBER_OF_SQUARES][Board.NUMBER_OF_SQUARES];
+
+	static {
+		for (int square = 0; square < Board.NUMBER_OF_SQUARES; square++) {
+			KNIGHT_ATTACKS[square] = stepAttacks(square, KNIGHT_STEPS);
+			KING_ATTACKS[square] = stepAttacks(square, KING_STEPS);
+			PAWN_ATTACKS[Color.WHITE.ordinal()][square] = stepAttacks(square, new int[][] { { -1, 1 }, { 1, 1 } });
+			PAWN_ATTACKS[Color.BLACK.ordinal()][square] = stepAttacks(square, new int[][] { { -1, -1 }, { 1, -1 } });
+
+			for (int direction = 0; direction < STRAIGHT_DIRECTIONS.length; direction++) {
+				STRAIGHT_RAYS[direction][square] = ray(square, STRAIGHT_DIRECTIONS[direction]);
+				DIAGONAL_RAYS[direction][square] = ray(square, DIAGONAL_DIRECTIONS[direction]);
+			}
+		}
+
+		for (int square = 0; square < Board.NUMBER_OF_SQUARES; square++) {
+			ROOK_MASKS[square] = relevantOccupancyMask(square, STRAIGHT_DIRECTIONS);
+			ROOK_SHIFTS[square] = Long.SIZE - Long.bitCount(ROOK_MASKS[square]);
+			ROOK_ATTACKS[square] = magicAttackTable(square, ROOK_MASKS[square], ROOK_MAGICS[square],
+					ROOK_SHIFTS[square], STRAIGHT_RAYS);
+
+			BISHOP_MASKS[square] = relevantOccupancyMask(square, DIAGONAL_DIRECTIONS);
+			BISHOP_SHIFTS[square] = Long.SIZE - Long.bitCount(BISHOP_MASKS[square]);
+			BISHOP_ATTACKS[square] = magicAttackTable(square, BISHOP_MASKS[square], BISHOP_MAGICS[square],
+					BISHOP_SHIFTS[square], DIAGONAL_RAYS);
+		}
+
+		for (int square = 0; square < Board.NUMBER_OF_SQUARES; square++) {
+			for (int otherSquare = 0; otherSquare < Board.NUMBER_OF_SQUARES; otherSquare++) {
+				long otherSquareMask = 1L << otherSquare;
+				long squareMask = 1L << square;
+				if ((rookAttacks(square, 0) & otherSquareMask) != 0) {
+					SQUARES_BETWEEN[square][otherSquare] = rookAttacks(square, otherSquareMask)
+							& rookAttacks(otherSquare, squareMask);
+				} else if ((bishopAttacks(square, 0) & otherSquareMask) != 0) {
+					SQUARES_BETWEEN[square][otherSquare] = bishopAttacks(square, otherSquareMask)
+							& bishopAttacks(otherSquare, squareMask);
+				}
+			}
+		}
+	}
+
+	private AttackTables() {
+	}
+
+	/**
+	 * Gets squares attacked by a rook standing on the square.
+	 *
+	 * @param square square index
+	 * @param occupancy all occupied squares
+	 * @return attacked squares, including the first occupied square in every
+	 *         direction
+	 */
+	public static long rookAttacks(int square, long occupancy) {
+		int index = (int) (((occupancy & ROOK_MASKS[square]) * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square]);
+		return ROOK_ATTACKS[square][index];
+	}
+
+	/**
+	 * Gets squares attacked by a bishop standing on the square.
+	 *
+	 * @param square square index
+	 * @param occupancy all occupied squares
+	 * @return attacked squares, including the first occupied square in every
+	 *         direction
+	 */
+	public static long bishopAttacks(int square, long occupancy) {
+		int index = (int) (((occupancy & BISHOP_MASKS[square]) * BISHOP_MAGICS[square]) >>> BISHOP_SHIFTS[square]);
+		return BISHOP_ATTACKS[square][index];
+	}
+
+	/**
+	 * Gets squares attacked by a queen standing on the square.
+	 *
+	 * @param square square index
+	 * @param occupancy all occupied squares
+	 * @return attacked squares, including the first occupied square in every
+	 *         direction
+	 */
+	public static long queenAttacks(int square, long occupancy) {
+		return rookAttacks(square, occupancy) | bishopAttacks(square, occupancy);
+	}
+
+	/**
+	 * Gets squares lying between two squares on the same rank, file or
+	 * diagonal.
+	 *
+	 * @param square square index
+	 * @param otherSquare square index
+	 * @return squares between, excluding both given squares, or an empty set
+	 *         if the squares are not on one line
+	 */
+	public static long squaresBetween(int square, int otherSquare) {
+		return SQUARES_BETWEEN[square][otherSquare];
+	}
+
+	/**
+	 * Checks if any piece of given color attacks the square. Attackers are
+	 * looked for from the square outwards, so the cheapest checks come first.
+	 *
+	 * @param pieceBitboards
+	 *            bitboards indexed by piece ordinal
+	 * @param occupancy
+	 *            set of all occupied squares
+	 * @param square
+	 *            square index
+	 * @param byColor
+	 *            color of the attacking pieces
+	 * @return true if the square is attacked
+	 */
+	static boolean isSquareAttacked(long[] pieceBitboards, long occupancy, int square, Color byColor) {
+		boolean attackedByWhite = byColor == Color.WHITE;
+		Color defendersColor = attackedByWhite ? Color.BLACK : Color.WHITE;
+
+		long pawns = pieceBitboards[(attackedByWhite ? Piece.WHITE_PAWN : Piece.BLACK_PAWN).ordinal()];
+		if ((PAWN_ATTACKS[defendersColor.ordinal()][square] & pawns) != 0) {
+			return true;
+		}
+
+		long knights = pieceBitboards[(attackedByWhite ? Piece.WHITE_KNIGHT : Piece.BLACK_KNIGHT).ordinal()];
+		if ((KNIGHT_ATTACKS[square] & knights) != 0) {
+			return true;
+		}
+
+		long king = pieceBitboards[(attackedByWhite ? Piece.WHITE_KING : Piece.BLACK_KING).ordinal()];
+		if ((KING_ATTACKS[square] & king) != 0) {
+			return true;
+		}
+
+		long queens = pieceBitboards[(attackedByWhite ? Piece.WHITE_QUEEN : Piece.BLACK_QUEEN).ordinal()];
+		long rooks = pieceBitboards[(attackedByWhite ? Piece.WHITE_ROOK : Piece.BLACK_ROOK).ordinal()];
+		long bishops = pieceBitboards[(attackedByWhite ? Piece.WHITE_BISHOP : Piece.BLACK_BISHOP).ordinal()];
+
+		return (rookAttacks(square, occupancy) & (rooks | queens)) != 0
+				|| (bishopAttacks(square, occupancy) & (bishops | queens)) != 0;
+	}
+
+	/**
+	 * Gets pieces of given color which attack the square.
+	 *
+	 * @param pieceBitboards
+	 *            bitboards indexed by piece ordinal
+	 * @param occupancy
+	 *            set of all occupied squares
+	 * @param square
+	 *            square index
+	 * @param byColor
+	 *            color of the attacking pieces
+	 * @return bitboard of the attacking pieces
+	 */
+	static long getAttackers(long[] pieceBitboards, long occupancy, int square, Color byColor) {
+		boolean attackedByWhite = byColor == Color.WHITE;
+		Color defendersColor = attackedByWhite ? Color.BLACK : Color.WHITE;
+
+		long pawns = pieceBitboards[(attackedByWhite ? Piece.WHITE_PAWN : Piece.BLACK_PAWN).ordinal()];
+		long knights = pieceBitboards[(attackedByWhite ? Piece.WHITE_KNIGHT : Piece.BLACK_KNIGHT).ordinal()];
+		long king = pieceBitboards[(attackedByWhite ? Piece.WHITE_KING : Piece.BLACK_KING).ordinal()];
+		long queens = pieceBitboards[(attackedByWhite ? Piece.WHITE_QUEEN : Piece.BLACK_QUEEN).ordinal()];
+		long rooks = pieceBitboards[(attackedByWhite ? Piece.WHITE_ROOK : Piece.BLACK_ROOK).ordinal()];
+		long bishops = pieceBitboards[(attackedByWhite ? Piece.WHITE_BISHOP : Piece.BLACK_BISHOP).ordinal()];
+
+		return (PAWN_ATTACKS[defendersColor.ordinal()][square] & pawns) | (KNIGHT_ATTACKS[square] & knights)
+				| (KING_ATTACKS[square] & king) | (rookAttacks(square, occupancy) & (rooks | queens))
+				| (bishopAttacks(square, occupancy) & (bishops | queens));
+	}
+
+	private static long[] magicAttackTable(int square, long mask, long magic, int shift, long[][] rays) {
+		long[] attacks = new long[1 << Long.bitCount(mask)];
+
+		// enumerates all subsets of the mask
+		long occupancy = 0;
+		do {
+			attacks[(int) ((occupancy * magic) >>> shift)] = slidingAttacks(square, occupancy, rays);
+			occupancy = (occupancy - mask) & mask;
+		} while (occupancy != 0);
+
+		return attacks;
+	}
+
+	private static long relevantOccupancyMask(int square, int[][] directions) {
+		// the last square in every direction does not block anything
+		long mask = 0;
+		for (int[] direction : directions) {
+			int x = square % Board.SIZE + direction[0];
+			int y = square / Board.SIZE + direction[1];
+			while (isInBoardRange(x + direction[0], y + direction[1])) {
+				mask |= 1L << (y * Board.SIZE + x);
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+		return mask;
+	}
+
+	private static long slidingAttacks(int square, long occupancy, long[][] rays) {
+		long attacks = 0;
+		for (int direction = 0; direction < rays.length; direction++) {
+			long ray = rays[direction][square];
+			long blockers = ray & occupancy;
+			if (blockers != 0) {
+				int firstBlocker = direction < 2 ? Long.numberOfTrailingZeros(blockers)
+						: 63 - Long.numberOfLeadingZeros(blockers);
+				ray ^= rays[direction][firstBlocker];
+			}
+			attacks |= ray;
+		}
+		return attacks;
+	}
+
+	private static long stepAttacks(int square, int[][] steps) {
+		long attacks = 0;
+		for (int[] step : steps) {
+			int x = square % Board.SIZE + step[0];
+			int y = square / Board.SIZE + step[1];
+			if (isInBoardRange(x, y)) {
+				attacks |= 1L << (y * Board.SIZE + x);
+			}
+		}
+		return attacks;
+	}
+
+	private static long ray(int square, int[] direction) {
+		long ray = 0;
+		int x = square % Board.SIZE + direction[0];
+		int y = square / Board.SIZE + direction[1];
+		while (isInBoardRange(x, y)) {
+			ray |= 1L << (y * Board.SIZE + x);
+			x += direction[0];
+			y += direction[1];
+		}
+		return ray;
+	}
+
+	private static boolean isInBoardRange(int x, int y) {
+		return x >= 0 && x < Board.SIZE && y >= 0 && y < Board.SIZE;
+	}
+}
@@ -1,66 +1,815 @@
 package com.capgemini.chess.algorithms.data.generated;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 
+import com.capgemini.chess.algorithms.data.BoardView;
 import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.EncodedMove;
 import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.MoveList;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
 
 /**
  * Board representation.
  * Board objects are generated based on move history.
- * 
+ *
+ * Pieces are kept in bitboards - one 64 bit set per piece plus occupancy
+ * sets per color. Square index of the field (x, y) is y * SIZE + x, so bit 0
+ * is (0, 0) and bit 63 is (7, 7). Occupancy sets serve as per color piece
+ * lists, a square to piece array answers lookups of single squares and king
+ * squares are tracked. Move history is kept as encoded moves.
+ *
+ * Board keeps a Zobrist key of the position, updated incrementally on every
+ * change of pieces, castling rights and en passant square, and counts keys of
+ * the positions from which the recorded moves were made. The halfmove clock
+ * counts moves made since the last pawn move or capture. Positions before
+ * such a move cannot occur again, so their count is cleared. State and key
+ * from before every recorded move are kept on an undo stack, so moves can be
+ * taken back.
+ *
  * @author Michal Bejm
  *
  */
-public class Board {
-	
+public class Board implements BoardView {
+
 	public static final int SIZE = 8;
-	
-	private Piece[][] pieces = new Piece[SIZE][SIZE];
-	private List<Move> moveHistory = new ArrayList<>();
+	public static final int NUMBER_OF_SQUARES = SIZE * SIZE;
+	public static final int NO_SQUARE = -1;
+
+	public static final int WHITE_KINGSIDE_CASTLING = 1;
+	public static final int WHITE_QUEENSIDE_CASTLING = 2;
+	public static final int BLACK_KINGSIDE_CASTLING = 4;
+	public static final int BLACK_QUEENSIDE_CASTLING = 8;
+	public static final int ALL_CASTLING_RIGHTS = WHITE_KINGSIDE_CASTLING | WHITE_QUEENSIDE_CASTLING
+			| BLACK_KINGSIDE_CASTLING | BLACK_QUEENSIDE_CASTLING;
+
+	private static final Piece[] PIECES = Piece.values();
+	// letters of the pieces in Forsyth-Edwards Notation, indexed by ordinal
+	private static final String FEN_PIECE_LETTERS = "KQBNRPkqbnrp";
+	private static final String FEN_CASTLING_LETTERS = "KQkq";
+
+	// undo stack entries keep castling rights in the lowest bits, followed by
+	// en passant square + 1 and halfmove clock
+	private static final int UNDO_EN_PASSANT_SHIFT = 4;
+	private static final int UNDO_EN_PASSANT_MASK = 0x7F;
+	private static final int UNDO_HALFMOVE_CLOCK_SHIFT = 11;
+
+	// castling rights which are kept when a piece moves from or to the square
+	private static final int[] CASTLING_RIGHTS_KEPT = new int[NUMBER_OF_SQUARES];
+
+	static {
+		for (int square = 0; square < NUMBER_OF_SQUARES; square++) {
+			CASTLING_RIGHTS_KEPT[square] = ALL_CASTLING_RIGHTS;
+		}
+		CASTLING_RIGHTS_KEPT[0] &= ~WHITE_QUEENSIDE_CASTLING;
+		CASTLING_RIGHTS_KEPT[4] &= ~(WHITE_KINGSIDE_CASTLING | WHITE_QUEENSIDE_CASTLING);
+		CASTLING_RIGHTS_KEPT[7] &= ~WHITE_KINGSIDE_CASTLING;
+		CASTLING_RIGHTS_KEPT[56] &= ~BLACK_QUEENSIDE_CASTLING;
+		CASTLING_RIGHTS_KEPT[60] &= ~(BLACK_KINGSIDE_CASTLING | BLACK_QUEENSIDE_CASTLING);
+		CASTLING_RIGHTS_KEPT[63] &= ~BLACK_KINGSIDE_CASTLING;
+	}
+
+	private long[] pieceBitboards = new long[PIECES.length];
+	private long[] colorOccupancy = new long[Color.values().length];
+	private Piece[] piecesOnSquares = new Piece[NUMBER_OF_SQUARES];
+	private int[] kingSquares = { NO_SQUARE, NO_SQUARE };
+	private MoveList encodedMoveHistory;
+	private MoveList encodedMoveHistoryView;
+	private List<Move> moveHistory = new MoveHistory();
 	private BoardState state;
-	
+	private long stateKey;
+	private int statePly = -1;
+	private int castlingRights;
+	private int enPassantSquare = NO_SQUARE;
+	private long enPassantKey;
+	private long zobristKey = ZobristKeys.CASTLING_RIGHTS[0];
+	private RepetitionTable repetitions;
+	private int halfmoveClock;
+	// number of moves made before the first move of the history
+	private int startPly;
+	private int[] undoStack;
+	// keys of the positions the recorded moves were made from, by ply
+	private long[] positionKeys;
+
 	public Board() {
+		encodedMoveHistory = new MoveList();
+		encodedMoveHistoryView = MoveList.unmodifiableView(encodedMoveHistory);
+		repetitions = new RepetitionTable();
+		undoStack = new int[32];
+		positionKeys = new long[32];
+	}
+
+	/**
+	 * Creates independent copy of the board, including move history and the
+	 * state needed to take the moves back.
+	 *
+	 * @param board
+	 *            copied board
+	 */
+	public Board(Board board) {
+		pieceBitboards = board.pieceBitboards.clone();
+		colorOccupancy = board.colorOccupancy.clone();
+		piecesOnSquares = board.piecesOnSquares.clone();
+		kingSquares = board.kingSquares.clone();
+		encodedMoveHistory = new MoveList(board.encodedMoveHistory);
+		encodedMoveHistoryView = MoveList.unmodifiableView(encodedMoveHistory);
+		state = board.state;
+		stateKey = board.stateKey;
+		statePly = board.statePly;
+		castlingRights = board.castlingRights;
+		enPassantSquare = board.enPassantSquare;
+		enPassantKey = board.enPassantKey;
+		zobristKey = board.zobristKey;
+		repetitions = new RepetitionTable(board.repetitions);
+		halfmoveClock = board.halfmoveClock;
+		startPly = board.startPly;
+		undoStack = board.undoStack.clone();
+		positionKeys = board.positionKeys.clone();
+	}
+
+	/**
+	 * Creates board with the position and empty move history.
+	 *
+	 * @param position
+	 *            position snapshot
+	 */
+	public Board(Position position) {
+		this();
+		for (int square = 0; square < NUMBER_OF_SQUARES; square++) {
+			Piece piece = position.getPieceAt(square);
+			if (piece != null) {
+				setPieceAt(piece, square);
+			}
+		}
+		startPly = position.getPly();
+		setCastlingRights(position.getCastlingRights());
+		setEnPassantSquare(position.getEnPassantSquare());
+		halfmoveClock = position.getHalfmoveClock();
+	}
+
+	/**
+	 * Creates board with the position written in Forsyth-Edwards Notation.
+	 * The notation is read character by character, without splitting it into
+	 * strings. Halfmove clock and fullmove number may be omitted.
+	 *
+	 * @param fen
+	 *            position in Forsyth-Edwards Notation
+	 * @return board with the position and empty move history
+	 * @throws IllegalArgumentException
+	 *             in case the notation is malformed
+	 */
+	public static Board fromFen(CharSequence fen) {
+		Board board = new Board();
+		int index = board.readPiecePlacement(fen, skipSpaces(fen, 0));
+
+		index = expectSpace(fen, index);
+		char sideToMove = charAt(fen, index++);
+		if (sideToMove != 'w' && sideToMove != 'b') {
+			throw new IllegalArgumentException("Invalid side to move in position: " + fen);
+		}
+
+		index = expectSpace(fen, index);
+		int castlingRights = 0;
+		if (charAt(fen, index) == '-') {
+			index++;
+		} else {
+			while (index < fen.length() && fen.charAt(index) != ' ') {
+				int right = FEN_CASTLING_LETTERS.indexOf(fen.charAt(index++));
+				if (right < 0 || (castlingRights & (1 << right)) != 0) {
+					throw new IllegalArgumentException("Invalid castling rights in position: " + fen);
+				}
+				castlingRights |= 1 << right;
+			}
+		}
+
+		index = expectSpace(fen, index);
+		int enPassantSquare = NO_SQUARE;
+		if (charAt(fen, index) == '-') {
+			index++;
+		} else {
+			// the square is passed by the opponent's pawn, which stands in front
+			// of it
+			boolean whiteToMove = sideToMove == 'w';
+			int x = charAt(fen, index++) - 'a';
+			int y = charAt(fen, index++) - '1';
+			int passedPawnY = whiteToMove ? y - 1 : y + 1;
+			Piece opponentsPawn = whiteToMove ? Piece.BLACK_PAWN : Piece.WHITE_PAWN;
+			if (x < 0 || x >= SIZE || y != (whiteToMove ? SIZE - 3 : 2)
+					|| board.getPieceAt(passedPawnY * SIZE + x) != opponentsPawn) {
+				throw new IllegalArgumentException("Invalid en passant square in position: " + fen);
+			}
+			enPassantSquare = y * SIZE + x;
+		}
+
+		int halfmoveClock = 0;
+		int fullmoveNumber = 1;
+		index = skipSpaces(fen, index);
+		if (index < fen.length()) {
+			halfmoveClock = readNumber(fen, index);
+			index = skipSpaces(fen, skipDigits(fen, index));
+			if (index < fen.length()) {
+				fullmoveNumber = readNumber(fen, index);
+				if (fullmoveNumber < 1) {
+					throw new IllegalArgumentException("Invalid fullmove number in position: " + fen);
+				}
+				index = skipSpaces(fen, skipDigits(fen, index));
+			}
+		}
+		if (index != fen.length()) {
+			throw new IllegalArgumentException("Unexpected characters at the end of position: " + fen);
+		}
+
+		board.startPly = 2 * (fullmoveNumber - 1) + (sideToMove == 'b' ? 1 : 0);
+		board.setCastlingRights(castlingRights);
+		board.setEnPassantSquare(enPassantSquare);
+		board.halfmoveClock = halfmoveClock;
+		return board;
+	}
+
+	/**
+	 * Writes the position in Forsyth-Edwards Notation.
+	 *
+	 * @param out
+	 *            destination of the notation
+	 * @throws IOException
+	 *             in case writing to the destination fails
+	 */
+	public void toFen(Appendable out) throws IOException {
+		for (int y = SIZE - 1; y >= 0; y--) {
+			int emptySquares = 0;
+			for (int x = 0; x < SIZE; x++) {
+				Piece piece = piecesOnSquares[y * SIZE + x];
+				if (piece == null) {
+					emptySquares++;
+					continue;
+				}
+				if (emptySquares > 0) {
+					out.append((char) ('0' + emptySquares));
+					emptySquares = 0;
+				}
+				out.append(FEN_PIECE_LETTERS.charAt(piece.ordinal()));
+			}
+			if (emptySquares > 0) {
+				out.append((char) ('0' + emptySquares));
+			}
+			if (y > 0) {
+				out.append('/');
+			}
+		}
+
+		out.append(' ').append(getSideToMove() == Color.WHITE ? 'w' : 'b').append(' ');
+		if (castlingRights == 0) {
+			out.append('-');
+		}
+		for (int right = 0; right < FEN_CASTLING_LETTERS.length(); right++) {
+			if ((castlingRights & (1 << right)) != 0) {
+				out.append(FEN_CASTLING_LETTERS.charAt(right));
+			}
+		}
+
+		out.append(' ');
+		if (enPassantSquare == NO_SQUARE) {
+			out.append('-');
+		} else {
+			out.append((char) ('a' + enPassantSquare % SIZE)).append((char) ('1' + enPassantSquare / SIZE));
+		}
+
+		out.append(' ').append(Integer.toString(halfmoveClock)).append(' ')
+				.append(Integer.toString(getPly() / 2 + 1));
+	}
+
+	/**
+	 * Writes the position in Forsyth-Edwards Notation.
+	 *
+	 * @return position in Forsyth-Edwards Notation
+	 */
+	public String toFen() {
+		StringBuilder fen = new StringBuilder(90);
+		try {
+			toFen(fen);
+		} catch (IOException e) {
+			// StringBuilder does not throw
+			throw new IllegalStateException(e);
+		}
+		return fen.toString();
+	}
+
+	/**
+	 * Takes immutable snapshot of the current position, which can be read by
+	 * other threads while the board changes. Move history is not included.
+	 *
+	 * @return position snapshot
+	 */
+	public Position snapshot() {
+		return new Position(pieceBitboards.clone(), colorOccupancy[Color.WHITE.ordinal()],
+				colorOccupancy[Color.BLACK.ordinal()], castlingRights, enPassantSquare, halfmoveClock, getPly(),
+				getZobristKey());
 	}
-	
-	
+
+
+	/**
+	 * Gets move history as list of move objects. The list is a view of the
+	 * encoded history - moves are decoded on every read, so changes made to
+	 * the returned move objects are not reflected in the history.
+	 *
+	 * @return move history
+	 */
 	public List<Move> getMoveHistory() {
 		return moveHistory;
 	}
 
+	/**
+	 * Gets move history as encoded moves. The list is a read-only view -
+	 * moves are appended with {@link #recordMove(int)} and removed with
+	 * {@link #unrecordMove()}, so that the position state follows the
+	 * history.
+	 *
+	 * @return read-only view of the move history
+	 */
+	public MoveList getEncodedMoveHistory() {
+		return encodedMoveHistoryView;
+	}
+
+	/**
+	 * Appends move to the history and updates castling rights, en passant
+	 * square and halfmove clock. Should be called before the pieces are moved, as the current
+	 * position is counted as the one the move was made from. Pieces are not
+	 * moved - it is the caller's responsibility.
+	 *
+	 * @param move encoded move
+	 */
+	public void recordMove(int move) {
+		int from = EncodedMove.getFrom(move);
+		int to = EncodedMove.getTo(move);
+		Piece movedPiece = EncodedMove.getMovedPiece(move);
+
+		int ply = encodedMoveHistory.size();
+		if (ply == undoStack.length) {
+			undoStack = Arrays.copyOf(undoStack, ply * 2);
+			positionKeys = Arrays.copyOf(positionKeys, ply * 2);
+		}
+		undoStack[ply] = castlingRights | ((enPassantSquare + 1) << UNDO_EN_PASSANT_SHIFT)
+				| (halfmoveClock << UNDO_HALFMOVE_CLOCK_SHIFT);
+
+		positionKeys[ply] = getZobristKey();
+		repetitions.increment(positionKeys[ply]);
+		encodedMoveHistory.add(move);
+
+		setCastlingRights(castlingRights & CASTLING_RIGHTS_KEPT[from] & CASTLING_RIGHTS_KEPT[to]);
+
+		boolean pawnMovedTwoSteps = movedPiece != null && movedPiece.getType() == PieceType.PAWN
+				&& Math.abs(to - from) == 2 * SIZE;
+		setEnPassantSquare(pawnMovedTwoSteps ? (from + to) / 2 : NO_SQUARE);
+
+		if (isIrreversible(move)) {
+			halfmoveClock = 0;
+			repetitions.clear();
+		} else {
+			halfmoveClock++;
+		}
+	}
+
+	/**
+	 * Removes the last move from the history and restores castling rights, en
+	 * passant square and halfmove clock from before the move. Pieces should
+	 * be put back by the caller first. Taking back a pawn move or capture
+	 * counts again the positions since the previous one.
+	 *
+	 * @return removed encoded move
+	 */
+	public int unrecordMove() {
+		int move = encodedMoveHistory.removeLast();
+		int undo = undoStack[encodedMoveHistory.size()];
+
+		setCastlingRights(undo & ALL_CASTLING_RIGHTS);
+		setEnPassantSquare(((undo >>> UNDO_EN_PASSANT_SHIFT) & UNDO_EN_PASSANT_MASK) - 1);
+		halfmoveClock = undo >>> UNDO_HALFMOVE_CLOCK_SHIFT;
+
+		int ply = encodedMoveHistory.size();
+		if (isIrreversible(move)) {
+			repetitions.clear();
+			for (int i = Math.max(0, ply - halfmoveClock); i < ply; i++) {
+				repetitions.increment(positionKeys[i]);
+			}
+		} else {
+			repetitions.decrement(positionKeys[ply]);
+		}
+		return move;
+	}
+
+	/**
+	 * Gets number of moves made since the last pawn move or capture.
+	 *
+	 * @return halfmove clock
+	 */
+	@Override
+	public int getHalfmoveClock() {
+		return halfmoveClock;
+	}
+
+	/**
+	 * Gets number of occurrences of the current position in the game,
+	 * including the current one.
+	 *
+	 * @return number of occurrences
+	 */
+	public int getRepetitionCount() {
+		return repetitions.count(getZobristKey()) + 1;
+	}
+
+	/**
+	 * Gets color of the player who makes the next move
+	 *
+	 * @return color of the next move
+	 */
+	@Override
+	public Color getSideToMove() {
+		return getPly() % 2 == 0 ? Color.WHITE : Color.BLACK;
+	}
+
+	/**
+	 * Gets number of moves made in the game, including the moves made before
+	 * the position the history starts from.
+	 *
+	 * @return number of moves
+	 */
+	public int getPly() {
+		return startPly + encodedMoveHistory.size();
+	}
+
+	/**
+	 * Gets castling rights as a mask of WHITE_KINGSIDE_CASTLING,
+	 * WHITE_QUEENSIDE_CASTLING, BLACK_KINGSIDE_CASTLING and
+	 * BLACK_QUEENSIDE_CASTLING.
+	 *
+	 * @return castling rights
+	 */
+	@Override
+	public int getCastlingRights() {
+		return castlingRights;
+	}
+
+	public void setCastlingRights(int castlingRights) {
+		zobristKey ^= ZobristKeys.CASTLING_RIGHTS[this.castlingRights] ^ ZobristKeys.CASTLING_RIGHTS[castlingRights];
+		this.castlingRights = castlingRights;
+	}
+
+	/**
+	 * Gets square passed by the pawn which moved two steps in the last move.
+	 *
+	 * @return en passant square or NO_SQUARE
+	 */
+	@Override
+	public int getEnPassantSquare() {
+		return enPassantSquare;
+	}
+
+	/**
+	 * Sets en passant square. The square is part of the position key only if
+	 * a pawn of the opponent stands next to the pawn which can be captured.
+	 *
+	 * @param enPassantSquare en passant square or NO_SQUARE
+	 */
+	public void setEnPassantSquare(int enPassantSquare) {
+		zobristKey ^= enPassantKey;
+		enPassantKey = 0;
+		this.enPassantSquare = enPassantSquare;
+
+		if (enPassantSquare != NO_SQUARE && isEnPassantCapturePossible(enPassantSquare)) {
+			enPassantKey = ZobristKeys.EN_PASSANT_FILE[enPassantSquare % SIZE];
+			zobristKey ^= enPassantKey;
+		}
+	}
+
+	/**
+	 * Gets Zobrist key of the position, which covers pieces, side to move,
+	 * castling rights and en passant file.
+	 *
+	 * @return position key
+	 */
+	@Override
+	public long getZobristKey() {
+		return getSideToMove() == Color.BLACK ? zobristKey ^ ZobristKeys.BLACK_TO_MOVE : zobristKey;
+	}
+
+	/**
+	 * Builds array representation of the board. Pieces are kept in
+	 * bitboards, so the returned array is a new copy on every call and
+	 * changes made to it are not reflected on the board - unlike the live
+	 * array this method used to return.
+	 *
+	 * @return pieces indexed by [x][y]
+	 * @deprecated read squares with {@link #getPieceAt(Coordinate)} or
+	 *             {@link #getPieceAt(int)} and change them with
+	 *             {@link #setPieceAt(Piece, Coordinate)}
+	 */
+	@Deprecated
 	public Piece[][] getPieces() {
+		Piece[][] pieces = new Piece[SIZE][SIZE];
+		for (int square = 0; square < NUMBER_OF_SQUARES; square++) {
+			pieces[square % SIZE][square / SIZE] = getPieceAt(square);
+		}
 		return pieces;
 	}
 
+	/**
+	 * Gets state of the board computed for the current position.
+	 *
+	 * @return board state or null if the position has changed since the state
+	 *         was set
+	 */
 	public BoardState getState() {
+		if (statePly != encodedMoveHistory.size() || stateKey != getZobristKey()) {
+			return null;
+		}
 		return state;
 	}
 
+	/**
+	 * Sets state of the board for the current position. The state is dropped
+	 * as soon as a move is made or a piece is set.
+	 *
+	 * @param state board state
+	 */
 	public void setState(BoardState state) {
 		this.state = state;
+		this.stateKey = getZobristKey();
+		this.statePly = encodedMoveHistory.size();
 	}
-	
+
 	/**
 	 * Sets chess piece on board based on given coordinates
-	 * 
+	 *
 	 * @param piece chess piece
 	 * @param board chess board
 	 * @param coordinate given coordinates
 	 */
 	public void setPieceAt(Piece piece, Coordinate coordinate) {
-		pieces[coordinate.getX()][coordinate.getY()] = piece;
+		setPieceAt(piece, coordinate.getSquare());
 	}
-	
+
+	/**
+	 * Sets chess piece on board based on given square index
+	 *
+	 * @param piece chess piece, null clears the square
+	 * @param square square index
+	 */
+	public void setPieceAt(Piece piece, int square) {
+		long squareMask = 1L << square;
+		Piece previousPiece = piecesOnSquares[square];
+		if (previousPiece != null) {
+			pieceBitboards[previousPiece.ordinal()] &= ~squareMask;
+			colorOccupancy[previousPiece.getColor().ordinal()] &= ~squareMask;
+			zobristKey ^= ZobristKeys.PIECE_SQUARE[previousPiece.ordinal()][square];
+			updateKingSquare(previousPiece);
+		}
+		piecesOnSquares[square] = piece;
+		if (piece != null) {
+			pieceBitboards[piece.ordinal()] |= squareMask;
+			colorOccupancy[piece.getColor().ordinal()] |= squareMask;
+			zobristKey ^= ZobristKeys.PIECE_SQUARE[piece.ordinal()][square];
+			updateKingSquare(piece);
+		}
+	}
+
 	/**
 	 * Gets chess piece from board based on given coordinates
-	 * 
+	 *
 	 * @param coordinate given coordinates
 	 * @return chess piece
 	 */
 	public Piece getPieceAt(Coordinate coordinate) {
-		return pieces[coordinate.getX()][coordinate.getY()];
+		return getPieceAt(coordinate.getSquare());
+	}
+
+	/**
+	 * Gets chess piece from board based on given square index
+	 *
+	 * @param square square index
+	 * @return chess piece or null if the square is empty
+	 */
+	@Override
+	public Piece getPieceAt(int square) {
+		return piecesOnSquares[square];
+	}
+
+	/**
+	 * Gets square of the king of given color
+	 *
+	 * @param color king color
+	 * @return square index or NO_SQUARE if there is no such king
+	 */
+	@Override
+	public int getKingSquare(Color color) {
+		return kingSquares[color.ordinal()];
+	}
+
+	/**
+	 * Gets number of pieces of given color
+	 *
+	 * @param color pieces color
+	 * @return number of pieces
+	 */
+	public int getNumberOfPieces(Color color) {
+		return Long.bitCount(colorOccupancy[color.ordinal()]);
+	}
+
+	/**
+	 * Gets set of squares occupied by given piece
+	 *
+	 * @param piece chess piece
+	 * @return bitboard of the piece
+	 */
+	@Override
+	public long getPieceBitboard(Piece piece) {
+		return pieceBitboards[piece.ordinal()];
+	}
+
+	/**
+	 * Gets set of squares occupied by pieces of given color
+	 *
+	 * @param color pieces color
+	 * @return occupancy bitboard
+	 */
+	@Override
+	public long getOccupancy(Color color) {
+		return colorOccupancy[color.ordinal()];
+	}
+
+	/**
+	 * Gets set of all occupied squares
+	 *
+	 * @return occupancy bitboard
+	 */
+	@Override
+	public long getOccupancy() {
+		return colorOccupancy[Color.WHITE.ordinal()] | colorOccupancy[Color.BLACK.ordinal()];
+	}
+
+	/**
+	 * Checks if any piece of given color attacks the square. Attackers are
+	 * looked for from the square outwards, using precomputed attack sets.
+	 *
+	 * @param square square index
+	 * @param byColor color of the attacking pieces
+	 * @return true if the square is attacked
+	 */
+	@Override
+	public boolean isSquareAttacked(int square, Color byColor) {
+		return AttackTables.isSquareAttacked(pieceBitboards, getOccupancy(), square, byColor);
+	}
+
+	/**
+	 * Gets pieces of given color which attack the square.
+	 *
+	 * @param square square index
+	 * @param byColor color of the attacking pieces
+	 * @return bitboard of the attacking pieces
+	 */
+	@Override
+	public long getAttackers(int square, Color byColor) {
+		return AttackTables.getAttackers(pieceBitboards, getOccupancy(), square, byColor);
+	}
+
+	private int readPiecePlacement(CharSequence fen, int index) {
+		int x = 0;
+		int y = SIZE - 1;
+		while (index < fen.length() && fen.charAt(index) != ' ') {
+			char letter = fen.charAt(index++);
+			if (letter == '/') {
+				if (x != SIZE || y == 0) {
+					throw new IllegalArgumentException("Invalid piece placement in position: " + fen);
+				}
+				x = 0;
+				y--;
+			} else if (letter >= '1' && letter <= '8') {
+				x += letter - '0';
+			} else {
+				int pieceIndex = FEN_PIECE_LETTERS.indexOf(letter);
+				if (pieceIndex < 0 || x >= SIZE) {
+					throw new IllegalArgumentException("Invalid piece placement in position: " + fen);
+				}
+				setPieceAt(PIECES[pieceIndex], y * SIZE + x);
+				x++;
+			}
+			if (x > SIZE) {
+				throw new IllegalArgumentException("Invalid piece placement in position: " + fen);
+			}
+		}
+		if (x != SIZE || y != 0) {
+			throw new IllegalArgumentException("Invalid piece placement in position: " + fen);
+		}
+		return index;
+	}
+
+	private static char charAt(CharSequence fen, int index) {
+		if (index >= fen.length()) {
+			throw new IllegalArgumentException("Incomplete position: " + fen);
+		}
+		return fen.charAt(index);
+	}
+
+	private static int expectSpace(CharSequence fen, int index) {
+		if (charAt(fen, index) != ' ') {
+			throw new IllegalArgumentException("Missing field separator in position: " + fen);
+		}
+		return skipSpaces(fen, index);
+	}
+
+	private static int skipSpaces(CharSequence fen, int index) {
+		while (index < fen.length() && fen.charAt(index) == ' ') {
+			index++;
+		}
+		return index;
+	}
+
+	private static int skipDigits(CharSequence fen, int index) {
+		while (index < fen.length() && Character.isDigit(fen.charAt(index))) {
+			index++;
+		}
+		return index;
+	}
+
+	private static int readNumber(CharSequence fen, int index) {
+		int end = skipDigits(fen, index);
+		if (end == index || end - index > 6) {
+			throw new IllegalArgumentException("Invalid move counter in position: " + fen);
+		}
+		int number = 0;
+		for (int i = index; i < end; i++) {
+			number = number * 10 + fen.charAt(i) - '0';
+		}
+		return number;
+	}
+
+	private void updateKingSquare(Piece piece) {
+		if (piece.getType() == PieceType.KING) {
+			long kingBitboard = pieceBitboards[piece.ordinal()];
+			kingSquares[piece.getColor().ordinal()] = kingBitboard == 0 ? NO_SQUARE
+					: Long.numberOfTrailingZeros(kingBitboard);
+		}
+	}
+
+	private boolean isIrreversible(int move) {
+		Piece movedPiece = EncodedMove.getMovedPiece(move);
+		MoveType type = EncodedMove.getType(move);
+		return (movedPiece != null && movedPiece.getType() == PieceType.PAWN)
+				|| EncodedMove.getCapturedPiece(move) != null || type == MoveType.CAPTURE
+				|| type == MoveType.EN_PASSANT;
+	}
+
+	private boolean isEnPassantCapturePossible(int enPassantSquare) {
+		boolean whitePawnPassed = enPassantSquare / SIZE == 2;
+		int passedPawnSquare = whitePawnPassed ? enPassantSquare + SIZE : enPassantSquare - SIZE;
+		long capturingPawns = getPieceBitboard(whitePawnPassed ? Piece.BLACK_PAWN : Piece.WHITE_PAWN);
+
+		int file = passedPawnSquare % SIZE;
+		long neighbourSquares = 0;
+		if (file > 0) {
+			neighbourSquares |= 1L << (passedPawnSquare - 1);
+		}
+		if (file < SIZE - 1) {
+			neighbourSquares |= 1L << (passedPawnSquare + 1);
+		}
+
+		return (capturingPawns & neighbourSquares) != 0;
+	}
+
+	private class MoveHistory extends AbstractList<Move> {
+
+		@Override
+		public Move get(int index) {
+			return encodedMoveHistory.getMove(index);
+		}
+
+		@Override
+		public int size() {
+			return encodedMoveHistory.size();
+		}
+
+		@Override
+		public void add(int index, Move move) {
+			if (index != size()) {
+				throw new UnsupportedOperationException("Moves can be added only at the end of the history");
+			}
+			recordMove(EncodedMove.encode(move));
+			modCount++;
+		}
+
+		@Override
+		public Move remove(int index) {
+			if (index != size() - 1) {
+				throw new UnsupportedOperationException("Only the last move can be removed from the history");
+			}
+			modCount++;
+			return EncodedMove.toMove(unrecordMove());
+		}
 	}
 }
@@ -0,0 +1,146 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import java.util.Arrays;
+
+import com.capgemini.chess.algorithms.data.BoardView;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+
+/**
+ * Immutable snapshot of a chess position, taken with
+ * {@link Board#snapshot()}. Pieces are kept in bitboards and a square to
+ * piece byte array, so a snapshot takes a few hundred bytes and can be shared
+ * between threads without copying or locking. Move history is not part of
+ * the position.
+ *
+ */
+public final class Position implements BoardView {
+
+	private static final Piece[] PIECES = Piece.values();
+
+	private final long[] pieceBitboards;
+	private final long whiteOccupancy;
+	private final long blackOccupancy;
+	// piece ordinal + 1, 0 for empty squares
+	private final byte[] piecesOnSquares = new byte[Board.NUMBER_OF_SQUARES];
+	private final int castlingRights;
+	private final int enPassantSquare;
+	private final int halfmoveClock;
+	private final int ply;
+	private final long zobristKey;
+
+	Position(long[] pieceBitboards, long whiteOccupancy, long blackOccupancy, int castlingRights,
+			int enPassantSquare, int halfmoveClock, int ply, long zobristKey) {
+		this.pieceBitboards = pieceBitboards;
+		this.whiteOccupancy = whiteOccupancy;
+		this.blackOccupancy = blackOccupancy;
+		this.castlingRights = castlingRights;
+		this.enPassantSquare = enPassantSquare;
+		this.halfmoveClock = halfmoveClock;
+		this.ply = ply;
+		this.zobristKey = zobristKey;
+
+		for (int pieceIndex = 0; pieceIndex < PIECES.length; pieceIndex++) {
+			long bitboard = pieceBitboards[pieceIndex];
+			while (bitboard != 0) {
+				piecesOnSquares[Long.numberOfTrailingZeros(bitboard)] = (byte) (pieceIndex + 1);
+				bitboard &= bitboard - 1;
+			}
+		}
+	}
+
+	public Piece getPieceAt(Coordinate coordinate) {
+		return getPieceAt(coordinate.getSquare());
+	}
+
+	@Override
+	public Piece getPieceAt(int square) {
+		int pieceIndex = piecesOnSquares[square];
+		return pieceIndex == 0 ? null : PIECES[pieceIndex - 1];
+	}
+
+	@Override
+	public long getPieceBitboard(Piece piece) {
+		return pieceBitboards[piece.ordinal()];
+	}
+
+	@Override
+	public long getOccupancy(Color color) {
+		return color == Color.WHITE ? whiteOccupancy : blackOccupancy;
+	}
+
+	@Override
+	public long getOccupancy() {
+		return whiteOccupancy | blackOccupancy;
+	}
+
+	@Override
+	public int getKingSquare(Color color) {
+		long kingBitboard = pieceBitboards[(color == Color.WHITE ? Piece.WHITE_KING : Piece.BLACK_KING).ordinal()];
+		return kingBitboard == 0 ? Board.NO_SQUARE : Long.numberOfTrailingZeros(kingBitboard);
+	}
+
+	@Override
+	public Color getSideToMove() {
+		return ply % 2 == 0 ? Color.WHITE : Color.BLACK;
+	}
+
+	@Override
+	public int getCastlingRights() {
+		return castlingRights;
+	}
+
+	@Override
+	public int getEnPassantSquare() {
+		return enPassantSquare;
+	}
+
+	@Override
+	public int getHalfmoveClock() {
+		return halfmoveClock;
+	}
+
+	/**
+	 * Gets number of moves made in the game before the position.
+	 *
+	 * @return number of moves
+	 */
+	public int getPly() {
+		return ply;
+	}
+
+	@Override
+	public long getZobristKey() {
+		return zobristKey;
+	}
+
+	@Override
+	public boolean isSquareAttacked(int square, Color byColor) {
+		return AttackTables.isSquareAttacked(pieceBitboards, getOccupancy(), square, byColor);
+	}
+
+	@Override
+	public long getAttackers(int square, Color byColor) {
+		return AttackTables.getAttackers(pieceBitboards, getOccupancy(), square, byColor);
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+		if (!(object instanceof Position)) {
+			return false;
+		}
+		Position position = (Position) object;
+		return zobristKey == position.zobristKey && castlingRights == position.castlingRights
+				&& enPassantSquare == position.enPassantSquare && halfmoveClock == position.halfmoveClock
+				&& ply == position.ply && Arrays.equals(pieceBitboards, position.pieceBitboards);
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (zobristKey ^ (zobristKey >>> 32));
+	}
+}
@@ -0,0 +1,142 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+/**
+ * Counts occurrences of position keys. Open addressing hash table with
+ * linear probing on primitive arrays, so counting does not allocate until
+ * the table has to grow. Keys whose count drops to zero are removed, so moves
+ * taken back leave no slots behind, and the table is cleared at pawn moves
+ * and captures.
+ *
+ */
+final class RepetitionTable {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private long[] keys = new long[INITIAL_CAPACITY];
+	private int[] counts = new int[INITIAL_CAPACITY];
+	private boolean[] used = new boolean[INITIAL_CAPACITY];
+	private int usedSlots;
+
+	RepetitionTable() {
+	}
+
+	RepetitionTable(RepetitionTable table) {
+		keys = table.keys.clone();
+		counts = table.counts.clone();
+		used = table.used.clone();
+		usedSlots = table.usedSlots;
+	}
+
+	/**
+	 * Gets number of occurrences of the key.
+	 *
+	 * @param key position key
+	 * @return number of occurrences
+	 */
+	int count(long key) {
+		int slot = findSlot(key);
+		return used[slot] ? counts[slot] : 0;
+	}
+
+	void increment(long key) {
+		int slot = findSlot(key);
+		if (!used[slot]) {
+			if ((usedSlots + 1) * 2 > keys.length) {
+				grow();
+				slot = findSlot(key);
+			}
+			used[slot] = true;
+			keys[slot] = key;
+			usedSlots++;
+		}
+		counts[slot]++;
+	}
+
+	void decrement(long key) {
+		int slot = findSlot(key);
+		if (used[slot] && --counts[slot] == 0) {
+			removeSlot(slot);
+		}
+	}
+
+	/**
+	 * Removes all keys, keeping the capacity. Clears only the used slots, so
+	 * that the cost follows the number of keys rather than the capacity.
+	 */
+	void clear() {
+		for (int slot = 0; usedSlots > 0 && slot < keys.length; slot++) {
+			if (used[slot]) {
+				used[slot] = false;
+				counts[slot] = 0;
+				usedSlots--;
+			}
+		}
+	}
+
+	int size() {
+		return usedSlots;
+	}
+
+	private int findSlot(long key) {
+		int mask = keys.length - 1;
+		int slot = homeSlot(key);
+		while (used[slot] && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private int homeSlot(long key) {
+		return (int) (key ^ (key >>> 32)) & (keys.length - 1);
+	}
+
+	/**
+	 * Frees the slot and shifts back the following keys of the probe
+	 * sequence, so that every key stays reachable from its home slot.
+	 *
+	 * @param slot
+	 *            freed slot
+	 */
+	private void removeSlot(int slot) {
+		int mask = keys.length - 1;
+		used[slot] = false;
+		usedSlots--;
+
+		int hole = slot;
+		for (int next = (slot + 1) & mask; used[next]; next = (next + 1) & mask) {
+			// the key may fill the hole if the hole is not before its home
+			// slot in the probe sequence
+			int distanceFromHome = (next - homeSlot(keys[next])) & mask;
+			if (distanceFromHome >= ((next - hole) & mask)) {
+				keys[hole] = keys[next];
+				counts[hole] = counts[next];
+				used[hole] = true;
+				used[next] = false;
+				hole = next;
+			}
+		}
+		// increment expects zero count in free slots
+		counts[hole] = 0;
+	}
+
+	private void grow() {
+		long[] oldKeys = keys;
+		int[] oldCounts = counts;
+		boolean[] oldUsed = used;
+
+		keys = new long[oldKeys.length * 2];
+		counts = new int[oldKeys.length * 2];
+		used = new boolean[oldKeys.length * 2];
+		usedSlots = 0;
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldUsed[i]) {
+				int slot = findSlot(oldKeys[i]);
+				used[slot] = true;
+				keys[slot] = oldKeys[i];
+				counts[slot] = oldCounts[i];
+				usedSlots++;
+			}
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import java.util.SplittableRandom;
+
+import com.capgemini.chess.algorithms.data.enums.Piece;
+
+/**
+ * Random keys used for Zobrist hashing of board positions. Keys are
+ * generated from a fixed seed, so position hashes are the same in every run
+ * and can be stored.
+ *
+ */
+final class ZobristKeys {
+
+	private static final long SEED = 0x2545F4914F6CDD1DL;
+
+	static final long[][] PIECE_SQUARE = new long[Piece.values().length][Board.NUMBER_OF_SQUARES];
+	static final long[] CASTLING_RIGHTS = new long[Board.ALL_CASTLING_RIGHTS + 1];
+	static final long[] EN_PASSANT_FILE = new long[Board.SIZE];
+	static final long BLACK_TO_MOVE;
+
+	static {
+		SplittableRandom random = new SplittableRandom(SEED);
+
+		for (long[] squareKeys : PIECE_SQUARE) {
+			for (int square = 0; square < squareKeys.length; square++) {
+				squareKeys[square] = random.nextLong();
+			}
+		}
+
+		long[] singleRightKeys = new long[Integer.bitCount(Board.ALL_CASTLING_RIGHTS)];
+		for (int i = 0; i < singleRightKeys.length; i++) {
+			singleRightKeys[i] = random.nextLong();
+		}
+		for (int rights = 0; rights < CASTLING_RIGHTS.length; rights++) {
+			for (int i = 0; i < singleRightKeys.length; i++) {
+				if ((rights & (1 << i)) != 0) {
+					CASTLING_RIGHTS[rights] ^= singleRightKeys[i];
+				}
+			}
+		}
+
+		for (int file = 0; file < EN_PASSANT_FILE.length; file++) {
+			EN_PASSANT_FILE[file] = random.nextLong();
+		}
+
+		BLACK_TO_MOVE = random.nextLong();
+	}
+
+	private ZobristKeys() {
+	}
+}
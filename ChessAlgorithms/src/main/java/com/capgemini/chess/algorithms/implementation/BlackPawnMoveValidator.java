@@ -1,9 +1,7 @@
 package com.capgemini.chess.algorithms.implementation;
 
-import java.util.List;
-
-import com.capgemini.chess.algorithms.data.Coordinate;
-import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.BoardView;
+import com.capgemini.chess.algorithms.data.MoveList;
 import com.capgemini.chess.algorithms.data.MoveValidator;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.Piece;
@@ -11,67 +9,52 @@ import com.capgemini.chess.algorithms.data.generated.Board;
 
 public class BlackPawnMoveValidator implements MoveValidator {
 
-	MoveType possibleMoveType;
-	Board currentBoard;
-	int figurePositionX;
-	int figurePositionY;
-	int destinationPositionX;
-	int destinationPositionY;
-	Piece pieceStandingOnToCoordinate;
-
 	@Override
-	public boolean isMovePossible(Coordinate from, Coordinate to) {
+	public MoveType validate(BoardView board, int from, int to) {
 
-		pieceStandingOnToCoordinate = currentBoard.getPieceAt(to);
-		figurePositionX = from.getX();
-		figurePositionY = from.getY();
-		destinationPositionX = to.getX();
-		destinationPositionY = to.getY();
+		Piece pieceStandingOnToCoordinate = board.getPieceAt(to);
+		int figurePositionX = from % Board.SIZE;
+		int figurePositionY = from / Board.SIZE;
+		int destinationPositionX = to % Board.SIZE;
+		int destinationPositionY = to / Board.SIZE;
 
 		boolean attemptedMoveIsBackwards = (figurePositionY - destinationPositionY) < 0;
 		if (attemptedMoveIsBackwards) {
-			return false;
+			return null;
 		}
 
 		if (figurePositionX == destinationPositionX) {
 
-			boolean attemptedVerticallMoveIsPossible = checkIfAttemptedVerticallMoveIsPossible();
+			boolean attemptedVerticallMoveIsPossible = checkIfAttemptedVerticallMoveIsPossible(board, from,
+					pieceStandingOnToCoordinate, figurePositionY, destinationPositionY);
 			if (attemptedVerticallMoveIsPossible) {
-				possibleMoveType = MoveType.ATTACK;
-				return true;
+				return MoveType.ATTACK;
 			} else {
-				return false;
+				return null;
 			}
 		}
 
-		if (figurePositionX != destinationPositionX) {
-
-			boolean attemptedMoveIsOneStepForwardDiagonall = checkIfAttemptedMoveIsOneStepForwardDiagonall();
-			if (attemptedMoveIsOneStepForwardDiagonall) {
+		boolean attemptedMoveIsOneStepForwardDiagonall = checkIfAttemptedMoveIsOneStepForwardDiagonall(
+				figurePositionX, figurePositionY, destinationPositionX, destinationPositionY);
+		if (attemptedMoveIsOneStepForwardDiagonall) {
 
-				if (pieceStandingOnToCoordinate != null) {
-					possibleMoveType = MoveType.CAPTURE;
-					return true;
-
-				} else {
-
-					boolean attemptedMoveIsEnPassant = checkIfAttemptedMoveIsEnPassant();
-					if (attemptedMoveIsEnPassant) {
-						possibleMoveType = MoveType.EN_PASSANT;
-						return true;
-					} else {
-						return false;
-					}
-				}
-			} else {
-				return false;
+			if (pieceStandingOnToCoordinate != null) {
+				return MoveType.CAPTURE;
+			} else if (to == board.getEnPassantSquare()) {
+				return MoveType.EN_PASSANT;
 			}
 		}
 
-		return false;
+		return null;
 	}
 
-	private boolean checkIfAttemptedVerticallMoveIsPossible() {
+	@Override
+	public void generateMoves(BoardView board, int from, MoveList moves) {
+		MoveGeneration.addPawnMoves(board, from, -1, moves);
+	}
+
+	private boolean checkIfAttemptedVerticallMoveIsPossible(BoardView board, int from,
+			Piece pieceStandingOnToCoordinate, int figurePositionY, int destinationPositionY) {
 
 		if (pieceStandingOnToCoordinate != null) {
 			return false;
@@ -81,7 +64,7 @@ public class BlackPawnMoveValidator implements MoveValidator {
 		if (attemptedMoveIsBiggerThanOneStep) {
 
 			if (figurePositionY == 6 && destinationPositionY == 4) {
-				return true;
+				return board.getPieceAt(from - Board.SIZE) == null;
 			} else {
 				return false;
 			}
@@ -90,39 +73,8 @@ public class BlackPawnMoveValidator implements MoveValidator {
 		}
 	}
 
-	private boolean checkIfAttemptedMoveIsEnPassant() {
-
-		List<Move> moveHistory = currentBoard.getMoveHistory();
-
-		Move lastMove = null;
-		if (!moveHistory.isEmpty()) {
-			lastMove = moveHistory.get(moveHistory.size() - 1);
-
-		}
-
-		if (lastMove != null) {
-			int lastMoveFromY = lastMove.getFrom().getY();
-			int lastMoveToY = lastMove.getTo().getY();
-			int lastMoveFromX = lastMove.getFrom().getX();
-			int lastMoveToX = lastMove.getTo().getX();
-
-			Piece lastMovedPiece = lastMove.getMovedPiece();
-
-			if (lastMovedPiece.equals(Piece.WHITE_PAWN) && lastMoveFromY == 1 && lastMoveToY == 3
-					&& ((lastMoveFromX == figurePositionX - 1 && lastMoveToX == figurePositionX - 1)
-							|| (lastMoveFromX == figurePositionX + 1 && lastMoveToX == figurePositionX + 1))) {
-
-				return true;
-			} else {
-				return false;
-			}
-		} else {
-			return false;
-		}
-
-	}
-
-	private boolean checkIfAttemptedMoveIsOneStepForwardDiagonall() {
+	private boolean checkIfAttemptedMoveIsOneStepForwardDiagonall(int figurePositionX, int figurePositionY,
+			int destinationPositionX, int destinationPositionY) {
 
 		if ((destinationPositionX == (figurePositionX + 1) && destinationPositionY == (figurePositionY - 1))
 				|| (destinationPositionX == (figurePositionX - 1) && destinationPositionY == (figurePositionY - 1))) {
@@ -132,17 +84,4 @@ public class BlackPawnMoveValidator implements MoveValidator {
 		return false;
 	}
 
-	@Override
-	public MoveType getTypeOfTheValidatedMove() {
-
-		return possibleMoveType;
-	}
-
-	@Override
-	public void setCurrentBoard(Board currentBoard) {
-
-		this.currentBoard = currentBoard;
-
-	}
-
 }
@@ -1,11 +1,11 @@
 package com.capgemini.chess.algorithms.implementation;
 
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.EncodedMove;
 import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.MoveList;
 import com.capgemini.chess.algorithms.data.MoveValidator;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
 import com.capgemini.chess.algorithms.data.enums.Color;
@@ -13,8 +13,8 @@ import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.Piece;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.Position;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
-import com.capgemini.chess.algorithms.implementation.exceptions.KingInCheckException;
 
 /**
  * Class for managing of basic operations on the Chess Board.
@@ -24,27 +24,49 @@ import com.capgemini.chess.algorithms.implementation.exceptions.KingInCheckExcep
  */
 public class BoardManager {
 
-	private Board board = new Board();
-	private HashMap<Piece, MoveValidator> mapOfMovingRules;
+	// moving rules shared by all boards, indexed by piece ordinal
+	private static final MoveValidator[] MOVING_RULES = new MoveValidator[Piece.values().length];
+	private static final Piece[] PIECES = Piece.values();
+	private static final int NUMBER_OF_PIECE_TYPES = PieceType.values().length;
+
+	static {
+		initMoveValidators();
+	}
+
+	private Board board;
+	private final MoveList possibleMoves = new MoveList();
+	private final CheckAnalysis checkAnalysis = new CheckAnalysis();
+	private MoveType typeOfTheValidatedMove;
 
 	public BoardManager() {
+		this.board = new Board();
 		initBoard();
-		initMoveValidators();
 	}
 
 	public BoardManager(List<Move> moves) {
+		this.board = new Board();
 		initBoard();
-		initMoveValidators();
 		for (Move move : moves) {
 			addMove(move);
 		}
 	}
 
 	public BoardManager(Board board) {
-		initMoveValidators();
 		this.board = board;
 	}
 
+	/**
+	 * Creates manager of a new board set up with the position. The game goes
+	 * on from the position with empty move history, so earlier occurrences of
+	 * positions are not counted for the threefold repetition rule.
+	 *
+	 * @param position
+	 *            position snapshot
+	 */
+	public BoardManager(Position position) {
+		this.board = new Board(position);
+	}
+
 	/**
 	 * Getter for generated board
 	 *
@@ -56,7 +78,7 @@ public class BoardManager {
 
 	/**
 	 * Performs move of the chess piece on the chess board from one field to
-	 * another.
+	 * another. Pawns reaching the last rank are promoted to queens.
 	 *
 	 * @param from
 	 *            coordinates of 'from' field
@@ -67,21 +89,222 @@ public class BoardManager {
 	 *             in case move is not valid
 	 */
 	public Move performMove(Coordinate from, Coordinate to) throws InvalidMoveException {
+		return performMove(from, to, PieceType.QUEEN);
+	}
 
-		Move move = validateMove(from, to);
+	/**
+	 * Performs move of the chess piece on the chess board from one field to
+	 * another, promoting a pawn which reaches the last rank to a piece of
+	 * given type. Every move returned by {@link #generateLegalMoves()} can be
+	 * performed this way.
+	 *
+	 * @param from
+	 *            coordinates of 'from' field
+	 * @param to
+	 *            coordinates of 'to' field
+	 * @param promotionPieceType
+	 *            type of the piece the pawn is promoted to - queen, rook,
+	 *            bishop or knight; ignored if the move is not a promotion
+	 * @return move object which includes moved piece and move type
+	 * @throws InvalidMoveException
+	 *             in case move is not valid
+	 */
+	public Move performMove(Coordinate from, Coordinate to, PieceType promotionPieceType)
+			throws InvalidMoveException {
 
-		addMove(move);
+		if (promotionPieceType == null || promotionPieceType == PieceType.KING
+				|| promotionPieceType == PieceType.PAWN) {
+			throw ValidationResult.INVALID_PROMOTION.toException();
+		}
+
+		boolean CoordinateFromIsInRange = checkIfCoordinateIsInBoardRange(from);
+		boolean CoordinateToIsInRange = checkIfCoordinateIsInBoardRange(to);
+		if (!CoordinateFromIsInRange || !CoordinateToIsInRange) {
+			throw ValidationResult.OUT_OF_BOARD.toException();
+		}
+
+		int fromSquare = from.getSquare();
+		int toSquare = to.getSquare();
+		ValidationResult validationResult = validateMove(fromSquare, toSquare);
+		if (!validationResult.isValid()) {
+			throw validationResult.toException();
+		}
+
+		Move move = new Move();
+		move.setFrom(Coordinate.of(fromSquare));
+		move.setTo(Coordinate.of(toSquare));
+		move.setMovedPiece(board.getPieceAt(fromSquare));
+		move.setType(typeOfTheValidatedMove);
+
+		makeMove(encodeMove(fromSquare, toSquare, typeOfTheValidatedMove, null, promotionPieceType));
 
 		return move;
 	}
 
 	/**
-	 * Calculates state of the chess board.
+	 * Generates all legal moves of the player who makes the next move.
 	 *
-	 * @return state of the chess board
+	 * @return list of encoded moves
 	 */
+	public MoveList generateLegalMoves() {
+		MoveList legalMoves = new MoveList();
+		generateLegalMoves(legalMoves);
+		return legalMoves;
+	}
 
-	private void initMoveValidators() {
+	/**
+	 * Generates all legal moves of the player who makes the next move into
+	 * given list. The list is cleared first, so it can be reused.
+	 *
+	 * @param legalMoves
+	 *            list the encoded moves are put into
+	 */
+	public void generateLegalMoves(MoveList legalMoves) {
+		if (checkFiftyMoveRule()) {
+			legalMoves.clear();
+			return;
+		}
+		generateLegalMovesIgnoringFiftyMoveRule(legalMoves);
+	}
+
+	/**
+	 * Generates all legal moves of the player who makes the next move into
+	 * given list, also after the 50-move rule applies. Recorded games may go
+	 * on past it, as the draw has to be claimed by a player.
+	 *
+	 * @param legalMoves
+	 *            list the encoded moves are put into
+	 */
+	public void generateLegalMovesIgnoringFiftyMoveRule(MoveList legalMoves) {
+		legalMoves.clear();
+		Color nextMoveColor = calculateNextMoveColor();
+		checkAnalysis.analyze(board, nextMoveColor);
+
+		long nextMovePlayersFigures = board.getOccupancy(nextMoveColor);
+		while (nextMovePlayersFigures != 0) {
+			int square = Long.numberOfTrailingZeros(nextMovePlayersFigures);
+			nextMovePlayersFigures &= nextMovePlayersFigures - 1;
+
+			addLegalMovesOfTheFigure(square, legalMoves);
+		}
+	}
+
+	/**
+	 * Generates legal moves of the piece standing on given field.
+	 *
+	 * @param from
+	 *            coordinates of the piece
+	 * @return list of encoded moves, empty if there is no piece of the player
+	 *         who makes the next move on the field
+	 */
+	public MoveList generateLegalMoves(Coordinate from) {
+		MoveList legalMoves = new MoveList();
+		generateLegalMoves(from, legalMoves);
+		return legalMoves;
+	}
+
+	/**
+	 * Generates legal moves of the piece standing on given field into given
+	 * list. The list is cleared first, so it can be reused.
+	 *
+	 * @param from
+	 *            coordinates of the piece
+	 * @param legalMoves
+	 *            list the encoded moves are put into
+	 */
+	public void generateLegalMoves(Coordinate from, MoveList legalMoves) {
+		legalMoves.clear();
+		if (!checkIfCoordinateIsInBoardRange(from) || checkFiftyMoveRule()) {
+			return;
+		}
+
+		Piece piece = board.getPieceAt(from);
+		if (piece != null && piece.getColor() == calculateNextMoveColor()) {
+			checkAnalysis.analyze(board, piece.getColor());
+			addLegalMovesOfTheFigure(from.getSquare(), legalMoves);
+		}
+	}
+
+	/**
+	 * Makes move on the board without validation. Captured piece, castling
+	 * rights, en passant square and halfmove clock are stored, so the move can
+	 * be taken back with {@link #unmakeMove()}. Move objects do not carry the
+	 * promotion piece, so pawns are promoted to queens - other promotions are
+	 * made with {@link #makeMove(int)}.
+	 *
+	 * @param move
+	 *            move object
+	 */
+	public void makeMove(Move move) {
+		addMove(move);
+	}
+
+	/**
+	 * Makes encoded move on the board without validation. Captured and
+	 * promotion pieces are taken from the encoded move, so it should be
+	 * complete for the move to be taken back exactly.
+	 *
+	 * @param move
+	 *            encoded move
+	 */
+	public void makeMove(int move) {
+		int from = EncodedMove.getFrom(move);
+		int to = EncodedMove.getTo(move);
+		MoveType type = EncodedMove.getType(move);
+		Piece movedPiece = this.board.getPieceAt(from);
+		Piece promotionPiece = EncodedMove.getPromotionPiece(move);
+
+		this.board.recordMove(move);
+
+		this.board.setPieceAt(null, from);
+		this.board.setPieceAt(movedPiece != null && promotionPiece != null ? promotionPiece : movedPiece, to);
+
+		if (type == MoveType.CASTLING) {
+			moveCastlingRook(from, to, false);
+		} else if (type == MoveType.EN_PASSANT) {
+			this.board.setPieceAt(null, getSquareOfThePawnCapturedEnPassant(from, to));
+		}
+	}
+
+	/**
+	 * Takes back the last move, restoring pieces, castling rights, en passant
+	 * square and halfmove clock from before the move.
+	 *
+	 * @throws IllegalStateException
+	 *             in case there are no moves in the history
+	 */
+	public void unmakeMove() {
+		if (this.board.getEncodedMoveHistory().isEmpty()) {
+			throw new IllegalStateException("There is no move to take back");
+		}
+
+		int move = this.board.getEncodedMoveHistory().getLast();
+		int from = EncodedMove.getFrom(move);
+		int to = EncodedMove.getTo(move);
+		MoveType type = EncodedMove.getType(move);
+		Piece capturedPiece = EncodedMove.getCapturedPiece(move);
+
+		Piece movedPiece = this.board.getPieceAt(to);
+		if (movedPiece != null && EncodedMove.getPromotionPiece(move) != null) {
+			movedPiece = EncodedMove.getMovedPiece(move);
+		}
+
+		if (type == MoveType.CASTLING) {
+			moveCastlingRook(from, to, true);
+		}
+
+		this.board.setPieceAt(movedPiece, from);
+		if (type == MoveType.EN_PASSANT) {
+			this.board.setPieceAt(null, to);
+			this.board.setPieceAt(capturedPiece, getSquareOfThePawnCapturedEnPassant(from, to));
+		} else {
+			this.board.setPieceAt(capturedPiece, to);
+		}
+
+		this.board.unrecordMove();
+	}
+
+	private static void initMoveValidators() {
 
 		BishopMoveValidator bishopMoveValidator = new BishopMoveValidator();
 		KingMoveValidator kingMoveValidator = new KingMoveValidator();
@@ -91,49 +314,59 @@ public class BoardManager {
 		QueenMoveValidator queenMoveValidator = new QueenMoveValidator();
 		RookMoveValidator rookMoveValidator = new RookMoveValidator();
 
-		mapOfMovingRules = new HashMap<>();
-
-		mapOfMovingRules.put(Piece.WHITE_BISHOP, bishopMoveValidator);
-		mapOfMovingRules.put(Piece.BLACK_BISHOP, bishopMoveValidator);
-		mapOfMovingRules.put(Piece.WHITE_KING, kingMoveValidator);
-		mapOfMovingRules.put(Piece.BLACK_KING, kingMoveValidator);
-		mapOfMovingRules.put(Piece.WHITE_KNIGHT, knightMoveValidator);
-		mapOfMovingRules.put(Piece.BLACK_KNIGHT, knightMoveValidator);
-		mapOfMovingRules.put(Piece.WHITE_PAWN, whitePawnMoveValidator);
-		mapOfMovingRules.put(Piece.BLACK_PAWN, blackPawnMoveValidator);
-		mapOfMovingRules.put(Piece.WHITE_QUEEN, queenMoveValidator);
-		mapOfMovingRules.put(Piece.BLACK_QUEEN, queenMoveValidator);
-		mapOfMovingRules.put(Piece.WHITE_ROOK, rookMoveValidator);
-		mapOfMovingRules.put(Piece.BLACK_ROOK, rookMoveValidator);
+		MOVING_RULES[Piece.WHITE_BISHOP.ordinal()] = bishopMoveValidator;
+		MOVING_RULES[Piece.BLACK_BISHOP.ordinal()] = bishopMoveValidator;
+		MOVING_RULES[Piece.WHITE_KING.ordinal()] = kingMoveValidator;
+		MOVING_RULES[Piece.BLACK_KING.ordinal()] = kingMoveValidator;
+		MOVING_RULES[Piece.WHITE_KNIGHT.ordinal()] = knightMoveValidator;
+		MOVING_RULES[Piece.BLACK_KNIGHT.ordinal()] = knightMoveValidator;
+		MOVING_RULES[Piece.WHITE_PAWN.ordinal()] = whitePawnMoveValidator;
+		MOVING_RULES[Piece.BLACK_PAWN.ordinal()] = blackPawnMoveValidator;
+		MOVING_RULES[Piece.WHITE_QUEEN.ordinal()] = queenMoveValidator;
+		MOVING_RULES[Piece.BLACK_QUEEN.ordinal()] = queenMoveValidator;
+		MOVING_RULES[Piece.WHITE_ROOK.ordinal()] = rookMoveValidator;
+		MOVING_RULES[Piece.BLACK_ROOK.ordinal()] = rookMoveValidator;
 
 	}
 
+	/**
+	 * Updates state of the board. The state is computed once per position and
+	 * kept on the board until the position changes.
+	 *
+	 * @return state of the board
+	 */
 	public BoardState updateBoardState() {
 
-		Color nextMoveColor = calculateNextMoveColor();
+		BoardState cachedState = this.board.getState();
+		if (cachedState != null) {
+			return cachedState;
+		}
 
-		boolean isKingInCheck = isKingInCheck(nextMoveColor);
-		boolean isAnyMoveValid = isAnyMoveValid(nextMoveColor);
+		Color nextMoveColor = calculateNextMoveColor();
 
 		BoardState boardState;
-		if (isKingInCheck) {
-			if (isAnyMoveValid) {
-				boardState = BoardState.CHECK;
-			} else {
-				boardState = BoardState.CHECK_MATE;
-			}
+		if (board.getKingSquare(nextMoveColor) == Board.NO_SQUARE) {
+			boardState = BoardState.CHECK_MATE;
 		} else {
-			if (isAnyMoveValid) {
-				boardState = BoardState.REGULAR;
+			checkAnalysis.analyze(board, nextMoveColor);
+			boolean isKingInCheck = checkAnalysis.isKingInCheck();
+			boolean isAnyMoveValid = isAnyMoveValid(nextMoveColor);
+
+			if (isKingInCheck) {
+				if (isAnyMoveValid) {
+					boardState = BoardState.CHECK;
+				} else {
+					boardState = BoardState.CHECK_MATE;
+				}
 			} else {
-				boardState = BoardState.STALE_MATE;
+				if (isAnyMoveValid) {
+					boardState = BoardState.REGULAR;
+				} else {
+					boardState = BoardState.STALE_MATE;
+				}
 			}
 		}
 
-		if (getKingsCoordinate(nextMoveColor) == null) {
-			boardState = BoardState.CHECK_MATE;
-		}
-
 		this.board.setState(boardState);
 		return boardState;
 	}
@@ -146,24 +379,7 @@ public class BoardManager {
 	 */
 	public boolean checkThreefoldRepetitionRule() {
 
-		// there is no need to check moves that where before last capture/en
-		// passant/castling
-		int lastNonAttackMoveIndex = findLastNonAttackMoveIndex();
-		List<Move> omittedMoves = this.board.getMoveHistory().subList(0, lastNonAttackMoveIndex);
-		BoardManager simulatedBoardManager = new BoardManager(omittedMoves);
-
-		int counter = 0;
-		for (int i = lastNonAttackMoveIndex; i < this.board.getMoveHistory().size(); i++) {
-			Move moveToAdd = this.board.getMoveHistory().get(i);
-			simulatedBoardManager.addMove(moveToAdd);
-			boolean areBoardsEqual = Arrays.deepEquals(this.board.getPieces(),
-					simulatedBoardManager.getBoard().getPieces());
-			if (areBoardsEqual) {
-				counter++;
-			}
-		}
-
-		return counter >= 2;
+		return this.board.getRepetitionCount() >= 3;
 	}
 
 	/**
@@ -177,95 +393,105 @@ public class BoardManager {
 
 		// for this purpose a "move" consists of a player completing his turn
 		// followed by his opponent completing his turn
-		if (this.board.getMoveHistory().size() < 100) {
-			return false;
-		}
-
-		for (int i = this.board.getMoveHistory().size() - 1; i >= this.board.getMoveHistory().size() - 100; i--) {
-			Move currentMove = this.board.getMoveHistory().get(i);
-			PieceType currentPieceType = currentMove.getMovedPiece().getType();
-			if (currentMove.getType() != MoveType.ATTACK || currentPieceType == PieceType.PAWN) {
-				return false;
-			}
-		}
-
-		return true;
+		return this.board.getHalfmoveClock() >= 100;
 	}
 
 	private void initBoard() {
 
-		this.board.setPieceAt(Piece.BLACK_ROOK, new Coordinate(0, 7));
-		this.board.setPieceAt(Piece.BLACK_KNIGHT, new Coordinate(1, 7));
-		this.board.setPieceAt(Piece.BLACK_BISHOP, new Coordinate(2, 7));
-		this.board.setPieceAt(Piece.BLACK_QUEEN, new Coordinate(3, 7));
-		this.board.setPieceAt(Piece.BLACK_KING, new Coordinate(4, 7));
-		this.board.setPieceAt(Piece.BLACK_BISHOP, new Coordinate(5, 7));
-		this.board.setPieceAt(Piece.BLACK_KNIGHT, new Coordinate(6, 7));
-		this.board.setPieceAt(Piece.BLACK_ROOK, new Coordinate(7, 7));
+		this.board.setPieceAt(Piece.BLACK_ROOK, Coordinate.of(0, 7));
+		this.board.setPieceAt(Piece.BLACK_KNIGHT, Coordinate.of(1, 7));
+		this.board.setPieceAt(Piece.BLACK_BISHOP, Coordinate.of(2, 7));
+		this.board.setPieceAt(Piece.BLACK_QUEEN, Coordinate.of(3, 7));
+		this.board.setPieceAt(Piece.BLACK_KING, Coordinate.of(4, 7));
+		this.board.setPieceAt(Piece.BLACK_BISHOP, Coordinate.of(5, 7));
+		this.board.setPieceAt(Piece.BLACK_KNIGHT, Coordinate.of(6, 7));
+		this.board.setPieceAt(Piece.BLACK_ROOK, Coordinate.of(7, 7));
 
 		for (int x = 0; x < Board.SIZE; x++) {
-			this.board.setPieceAt(Piece.BLACK_PAWN, new Coordinate(x, 6));
+			this.board.setPieceAt(Piece.BLACK_PAWN, Coordinate.of(x, 6));
 		}
 
-		this.board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(0, 0));
-		this.board.setPieceAt(Piece.WHITE_KNIGHT, new Coordinate(1, 0));
-		this.board.setPieceAt(Piece.WHITE_BISHOP, new Coordinate(2, 0));
-		this.board.setPieceAt(Piece.WHITE_QUEEN, new Coordinate(3, 0));
-		this.board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
-		this.board.setPieceAt(Piece.WHITE_BISHOP, new Coordinate(5, 0));
-		this.board.setPieceAt(Piece.WHITE_KNIGHT, new Coordinate(6, 0));
-		this.board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(7, 0));
+		this.board.setPieceAt(Piece.WHITE_ROOK, Coordinate.of(0, 0));
+		this.board.setPieceAt(Piece.WHITE_KNIGHT, Coordinate.of(1, 0));
+		this.board.setPieceAt(Piece.WHITE_BISHOP, Coordinate.of(2, 0));
+		this.board.setPieceAt(Piece.WHITE_QUEEN, Coordinate.of(3, 0));
+		this.board.setPieceAt(Piece.WHITE_KING, Coordinate.of(4, 0));
+		this.board.setPieceAt(Piece.WHITE_BISHOP, Coordinate.of(5, 0));
+		this.board.setPieceAt(Piece.WHITE_KNIGHT, Coordinate.of(6, 0));
+		this.board.setPieceAt(Piece.WHITE_ROOK, Coordinate.of(7, 0));
 
 		for (int x = 0; x < Board.SIZE; x++) {
-			this.board.setPieceAt(Piece.WHITE_PAWN, new Coordinate(x, 1));
+			this.board.setPieceAt(Piece.WHITE_PAWN, Coordinate.of(x, 1));
 		}
+
+		this.board.setCastlingRights(Board.ALL_CASTLING_RIGHTS);
 	}
 
 	private void addMove(Move move) {
+		makeMove(encodeMove(move));
+	}
 
-		addRegularMove(move);
+	private int encodeMove(Move move) {
+		return encodeMove(move.getFrom().getSquare(), move.getTo().getSquare(), move.getType(),
+				move.getMovedPiece(), PieceType.QUEEN);
+	}
 
-		if (move.getType() == MoveType.CASTLING) {
-			addCastling(move);
-		} else if (move.getType() == MoveType.EN_PASSANT) {
-			addEnPassant(move);
+	private int encodeMove(int from, int to, MoveType type, Piece movedPieceIfFromIsEmpty,
+			PieceType promotionPieceType) {
+		Piece movedPiece = this.board.getPieceAt(from);
+		if (movedPiece == null) {
+			movedPiece = movedPieceIfFromIsEmpty;
 		}
 
-		this.board.getMoveHistory().add(move);
-	}
+		Piece capturedPiece;
+		if (type == MoveType.EN_PASSANT) {
+			capturedPiece = this.board.getPieceAt(getSquareOfThePawnCapturedEnPassant(from, to));
+		} else if (type == MoveType.CASTLING) {
+			capturedPiece = null;
+		} else {
+			capturedPiece = this.board.getPieceAt(to);
+		}
 
-	private void addRegularMove(Move move) {
-		Piece movedPiece = this.board.getPieceAt(move.getFrom());
-		this.board.setPieceAt(null, move.getFrom());
-		this.board.setPieceAt(movedPiece, move.getTo());
+		Piece promotionPiece = null;
+		if ((movedPiece == Piece.WHITE_PAWN && to / Board.SIZE == (Board.SIZE - 1))
+				|| (movedPiece == Piece.BLACK_PAWN && to / Board.SIZE == 0)) {
+			promotionPiece = getPiece(promotionPieceType, movedPiece.getColor());
+		}
 
-		performPromotion(move, movedPiece);
+		return EncodedMove.encode(from, to, type, movedPiece, capturedPiece, promotionPiece);
 	}
 
-	private void performPromotion(Move move, Piece movedPiece) {
-		if (movedPiece == Piece.WHITE_PAWN && move.getTo().getY() == (Board.SIZE - 1)) {
-			this.board.setPieceAt(Piece.WHITE_QUEEN, move.getTo());
-		}
-		if (movedPiece == Piece.BLACK_PAWN && move.getTo().getY() == 0) {
-			this.board.setPieceAt(Piece.BLACK_QUEEN, move.getTo());
-		}
+	private static Piece getPiece(PieceType type, Color color) {
+		// white pieces are declared first, in the order of the piece types
+		return PIECES[color.ordinal() * NUMBER_OF_PIECE_TYPES + type.ordinal()];
 	}
 
-	private void addCastling(Move move) {
-		if (move.getFrom().getX() > move.getTo().getX()) {
-			Piece rook = this.board.getPieceAt(new Coordinate(0, move.getFrom().getY()));
-			this.board.setPieceAt(null, new Coordinate(0, move.getFrom().getY()));
-			this.board.setPieceAt(rook, new Coordinate(move.getTo().getX() + 1, move.getTo().getY()));
+	private void moveCastlingRook(int kingsFrom, int kingsTo, boolean takeBack) {
+		int firstSquareOfTheRank = kingsFrom - kingsFrom % Board.SIZE;
+
+		int rooksFrom;
+		int rooksTo;
+		if (kingsFrom > kingsTo) {
+			rooksFrom = firstSquareOfTheRank;
+			rooksTo = kingsTo + 1;
 		} else {
-			Piece rook = this.board.getPieceAt(new Coordinate(Board.SIZE - 1, move.getFrom().getY()));
-			this.board.setPieceAt(null, new Coordinate(Board.SIZE - 1, move.getFrom().getY()));
-			this.board.setPieceAt(rook, new Coordinate(move.getTo().getX() - 1, move.getTo().getY()));
+			rooksFrom = firstSquareOfTheRank + Board.SIZE - 1;
+			rooksTo = kingsTo - 1;
+		}
+
+		if (takeBack) {
+			int square = rooksFrom;
+			rooksFrom = rooksTo;
+			rooksTo = square;
 		}
+
+		Piece rook = this.board.getPieceAt(rooksFrom);
+		this.board.setPieceAt(null, rooksFrom);
+		this.board.setPieceAt(rook, rooksTo);
 	}
 
-	private void addEnPassant(Move move) {
-		Move lastMove = this.board.getMoveHistory().get(this.board.getMoveHistory().size() - 1);
-		this.board.setPieceAt(null, lastMove.getTo());
+	private int getSquareOfThePawnCapturedEnPassant(int from, int to) {
+		return (from / Board.SIZE) * Board.SIZE + (to % Board.SIZE);
 	}
 
 	private boolean checkIfCoordinateIsInBoardRange(Coordinate coordinate) {
@@ -275,75 +501,69 @@ public class BoardManager {
 		return (coordinateX <= Board.SIZE - 1 && coordinateX >= 0 && coordinateY <= Board.SIZE - 1 && coordinateY >= 0);
 	}
 
-	private boolean performInitialValidation(Coordinate from, Coordinate to) throws InvalidMoveException {
+	private ValidationResult performInitialValidation(int from, int to) {
 
 		boolean resultOfCheckingFiftyMoveRule = checkFiftyMoveRule();
 		if (resultOfCheckingFiftyMoveRule == true) {
-			throw new InvalidMoveException("Nie mozna wykonywac dalszych ruchow, poniewaz w poprzednich 50 rundach "
-					+ "zaden z graczy nie poruszyl pionkiem ani zadna figura nie zostala zbita!");
-		}
-
-		boolean CoordinateFromIsInRange = checkIfCoordinateIsInBoardRange(from);
-		boolean CoordinateToIsInRange = checkIfCoordinateIsInBoardRange(to);
-		if (!CoordinateFromIsInRange || !CoordinateToIsInRange) {
-			throw new InvalidMoveException("Wybrano wspolrzedne wykraczajace poza obszar planszy!");
+			return ValidationResult.FIFTY_MOVE_RULE;
 		}
 
-		if (from.equals(to)) {
-			throw new InvalidMoveException("Wspolrzedne poczatkowe sa takie same jak wspolrzedne koncowe!");
+		if (from == to) {
+			return ValidationResult.SAME_COORDINATES;
 		}
 
 		Piece PieceStandingOnFromCoordinate = board.getPieceAt(from);
 		Piece PieceStandingOnToCoordinate = board.getPieceAt(to);
 
 		if (PieceStandingOnFromCoordinate == null) {
-			throw new InvalidMoveException("Na polu poczatkowym ruchu nie ma figury!");
+			return ValidationResult.NO_PIECE_ON_FROM_COORDINATE;
 		}
 		if (!PieceStandingOnFromCoordinate.getColor().equals(calculateNextMoveColor())) {
-			throw new InvalidMoveException("Na polu poczatkowym ruchu znajduje sie figura przeciwnika!");
+			return ValidationResult.OPPONENTS_PIECE_ON_FROM_COORDINATE;
 		}
 		if (PieceStandingOnToCoordinate != null) {
 			if (PieceStandingOnToCoordinate.getColor().equals(calculateNextMoveColor())) {
-				throw new InvalidMoveException("Na polu koncowym znajduje sie jedna z twoich figur!");
+				return ValidationResult.OWN_PIECE_ON_TO_COORDINATE;
 			}
 		}
 
-		return true;
+		return ValidationResult.VALID;
 	}
 
-	private Move validateMove(Coordinate from, Coordinate to) throws InvalidMoveException, KingInCheckException {
-		// TODO please add implementation here
+	/**
+	 * Validates the move. Type of the valid move is kept in
+	 * typeOfTheValidatedMove.
+	 */
+	private ValidationResult validateMove(int from, int to) {
 
-		performInitialValidation(from, to);
+		ValidationResult initialValidationResult = performInitialValidation(from, to);
+		if (!initialValidationResult.isValid()) {
+			return initialValidationResult;
+		}
 
 		Piece pieceStandingOnFromCoordinate = board.getPieceAt(from);
 
-		MoveValidator movingRules = mapOfMovingRules.get(pieceStandingOnFromCoordinate);
-		movingRules.setCurrentBoard(board);
+		MoveValidator movingRules = MOVING_RULES[pieceStandingOnFromCoordinate.ordinal()];
 
-		boolean moveIsPossible = movingRules.isMovePossible(from, to);
+		MoveType possibleMoveType = movingRules.validate(board, from, to);
+		boolean moveIsPossible = possibleMoveType != null;
 
 		if (moveIsPossible) {
-			Move possibleMove = new Move();
-			possibleMove.setFrom(from);
-			possibleMove.setTo(to);
-			possibleMove.setMovedPiece(pieceStandingOnFromCoordinate);
-			possibleMove.setType(movingRules.getTypeOfTheValidatedMove());
 
-			boolean theMoveIsCheckMate = checkIfTheMoveIsCheckMate(from, to);
-			if (!theMoveIsCheckMate) {
-
-				willKingBeInCheck(possibleMove);
+			boolean theMoveIsCheckMate = checkIfTheMoveIsCheckMate(to);
+			if (!theMoveIsCheckMate && willKingBeInCheck(from, to, possibleMoveType)) {
+				return ValidationResult.KING_IN_CHECK;
 			}
 
-			return possibleMove;
+			typeOfTheValidatedMove = possibleMoveType;
+			return ValidationResult.VALID;
 		} else {
-			throw new InvalidMoveException("Wybrana figura nie ma mozliwosci wykonania takiego ruchu!");
+			return ValidationResult.MOVE_NOT_POSSIBLE;
 		}
 
 	}
 
-	private boolean checkIfTheMoveIsCheckMate(Coordinate from, Coordinate to) {
+	private boolean checkIfTheMoveIsCheckMate(int to) {
 		Piece pieceStandingOnToCoordinate = board.getPieceAt(to);
 
 		boolean thereIsAFigureOnToCoordinate = pieceStandingOnToCoordinate != null;
@@ -359,251 +579,101 @@ public class BoardManager {
 		return false;
 	}
 
-	private boolean willKingBeInCheck(Move testedMove) throws KingInCheckException {
-
-		boolean moveIsEnPassant = testedMove.getType().equals(MoveType.EN_PASSANT);
-
-		if (moveIsEnPassant) {
-			willKingBeInCheckAfterEnPassant(testedMove);
-		}
-
-		Coordinate testedMovesFromCoordinate = new Coordinate(testedMove.getFrom().getX(), testedMove.getFrom().getY());
-		Coordinate testedMovesToCoordinate = new Coordinate(testedMove.getTo().getX(), testedMove.getTo().getY());
-		Piece testedMovesMovedPiece = testedMove.getMovedPiece();
-		Piece pieceThatIsGoingToBeCaptured = board.getPieceAt(testedMovesToCoordinate);
+	private boolean willKingBeInCheck(int from, int to, MoveType testedMoveType) {
 
-		board.setPieceAt(testedMovesMovedPiece, testedMovesToCoordinate);
-		board.setPieceAt(null, testedMovesFromCoordinate);
+		Color kingColor = board.getPieceAt(from).getColor();
 
-		boolean kingIsInCheck = isKingInCheck(testedMove.getMovedPiece().getColor());
-
-		board.setPieceAt(testedMovesMovedPiece, testedMovesFromCoordinate);
-		board.setPieceAt(pieceThatIsGoingToBeCaptured, testedMovesToCoordinate);
-
-		if (kingIsInCheck) {
-			throw new KingInCheckException();
-		}
-
-		return false;
-
-	}
-
-	private boolean willKingBeInCheckAfterEnPassant(Move testedEnPassant) throws KingInCheckException {
-		Piece pieceThatIsGoingToBeCaptured = null;
-
-		Coordinate testedMovesFromCoordinate = new Coordinate(testedEnPassant.getFrom().getX(),
-				testedEnPassant.getFrom().getY());
-		Coordinate testedMovesToCoordinate = new Coordinate(testedEnPassant.getTo().getX(),
-				testedEnPassant.getTo().getY());
-		Piece testedEnPassantMovedPiece = testedEnPassant.getMovedPiece();
-
-		Coordinate coordinateOfTheCapturedPawn = new Coordinate(testedEnPassant.getTo().getX(),
-				testedEnPassant.getFrom().getY());
-		pieceThatIsGoingToBeCaptured = board.getPieceAt(coordinateOfTheCapturedPawn);
-
-		board.setPieceAt(testedEnPassantMovedPiece, testedMovesToCoordinate);
-		board.setPieceAt(null, testedMovesFromCoordinate);
-		board.setPieceAt(null, coordinateOfTheCapturedPawn);
-
-		boolean kingIsInCheck = isKingInCheck(testedEnPassantMovedPiece.getColor());
-
-		board.setPieceAt(testedEnPassantMovedPiece, testedMovesFromCoordinate);
-		board.setPieceAt(pieceThatIsGoingToBeCaptured, coordinateOfTheCapturedPawn);
-		board.setPieceAt(null, testedMovesToCoordinate);
-
-		if (kingIsInCheck) {
-			throw new KingInCheckException();
-		}
-
-		return false;
+		// the promoted piece does not change whether the own king is attacked
+		makeMove(encodeMove(from, to, testedMoveType, null, PieceType.QUEEN));
+		boolean kingIsInCheck = isKingInCheck(kingColor);
+		unmakeMove();
 
+		return kingIsInCheck;
 	}
 
 	private boolean isKingInCheck(Color kingColor) {
-		// TODO please add implementation here
-		Coordinate kingsCoordinate = getKingsCoordinate(kingColor);
-		boolean thereIsAFigureThatCanStandOnKingsCoordinate = false;
-
-		if (kingsCoordinate != null) {
-			thereIsAFigureThatCanStandOnKingsCoordinate = checkIfAnyOfTheOpponentsFigureCanStandOnKingsSpot(
-					kingsCoordinate);
+		int kingsSquare = board.getKingSquare(kingColor);
+		if (kingsSquare == Board.NO_SQUARE) {
+			return false;
 		}
-		return thereIsAFigureThatCanStandOnKingsCoordinate;
-	}
-
-	private Coordinate getKingsCoordinate(Color kingColor) {
-
-		Coordinate currentlyCheckedCoordinate = null;
 
-		for (int column = 0; column < Board.SIZE; column++) {
-			for (int row = 0; row < Board.SIZE; row++) {
-
-				currentlyCheckedCoordinate = new Coordinate(column, row);
-				Piece PieceAtCurrentlyCheckedCoordinate = board.getPieceAt(currentlyCheckedCoordinate);
-				boolean spotIsNotEmpty = (PieceAtCurrentlyCheckedCoordinate != null);
-
-				if (spotIsNotEmpty) {
-
-					boolean checkedFigureIsKingInTheRightColor = checkIfThatFigureIsKingOfThatColor(
-							currentlyCheckedCoordinate, kingColor);
-
-					if (checkedFigureIsKingInTheRightColor) {
+		Color opponentsColor = (kingColor == Color.WHITE) ? Color.BLACK : Color.WHITE;
+		return board.isSquareAttacked(kingsSquare, opponentsColor);
+	}
 
-						return currentlyCheckedCoordinate;
-					}
+	/**
+	 * Checks if the player has any legal move, stopping at the first one
+	 * found. Check analysis has to be done for the current position first.
+	 */
+	private boolean isAnyMoveValid(Color nextMoveColor) {
 
-				}
-			}
+		if (checkFiftyMoveRule()) {
+			return false;
 		}
 
-		return null;
-	}
-
-	private boolean checkIfThatFigureIsKingOfThatColor(Coordinate figuresCoordinate, Color kingColor) {
+		long nextMovePlayersFigures = board.getOccupancy(nextMoveColor);
 
-		Piece figure = board.getPieceAt(figuresCoordinate);
-		PieceType figuresPieceType = figure.getType();
-		Color figuresColor = figure.getColor();
-
-		return (figuresPieceType.equals(PieceType.KING) && figuresColor.equals(kingColor));
-	}
+		while (nextMovePlayersFigures != 0) {
+			int square = Long.numberOfTrailingZeros(nextMovePlayersFigures);
+			nextMovePlayersFigures &= nextMovePlayersFigures - 1;
 
-	private boolean checkIfAnyOfTheOpponentsFigureCanStandOnKingsSpot(Coordinate kingsCoordinate) {
+			MoveValidator movingRules = MOVING_RULES[board.getPieceAt(square).ordinal()];
 
-		Coordinate currentlyCheckedCoordinate = null;
+			possibleMoves.clear();
+			movingRules.generateMoves(board, square, possibleMoves);
 
-		for (int column = 0; column < Board.SIZE; column++) {
-			for (int row = 0; row < Board.SIZE; row++) {
-				currentlyCheckedCoordinate = new Coordinate(column, row);
-				Piece PieceAtCurrentlyCheckedCoordinate = board.getPieceAt(currentlyCheckedCoordinate);
-				try {
-					performInitialValidationForOpponentsFigure(currentlyCheckedCoordinate, kingsCoordinate);
-				} catch (InvalidMoveException e) {
-					continue;
-				}
-				MoveValidator movingRules = mapOfMovingRules.get(PieceAtCurrentlyCheckedCoordinate);
-				movingRules.setCurrentBoard(board);
-				boolean moveToKingsCoordinateIsPossible = movingRules.isMovePossible(currentlyCheckedCoordinate,
-						kingsCoordinate);
-				if (moveToKingsCoordinateIsPossible) {
+			for (int i = 0; i < possibleMoves.size(); i++) {
+				if (isLegal(possibleMoves.get(i))) {
 					return true;
 				}
-
 			}
-
 		}
 
 		return false;
 	}
 
-	private boolean performInitialValidationForOpponentsFigure(Coordinate from, Coordinate to)
-			throws InvalidMoveException {
-
-		boolean CoordinateFromIsInRange = checkIfCoordinateIsInBoardRange(from);
-		boolean CoordinateToIsInRange = checkIfCoordinateIsInBoardRange(to);
-		if (!CoordinateFromIsInRange || !CoordinateToIsInRange) {
-			throw new InvalidMoveException("Wybrano wspolrzedne wykraczajace poza obszar planszy!");
-		}
-
-		if (from.equals(to)) {
-			throw new InvalidMoveException("Wspolrzedne poczatkowe sa takie same jak wspolrzedne koncowe!");
-		}
-
-		Piece PieceStandingOnFromCoordinate = board.getPieceAt(from);
-
-		if (PieceStandingOnFromCoordinate == null) {
-			throw new InvalidMoveException("Na polu poczatkowym ruchu nie ma figury!");
-		}
-
-		if (PieceStandingOnFromCoordinate.getColor().equals(calculateNextMoveColor())) {
-			throw new InvalidMoveException("Na polu poczatkowym ruchu znajduje sie figura przeciwnika!");
-		}
-
-		return true;
-	}
-
-	private boolean isAnyMoveValid(Color nextMoveColor) {
-		// TODO please add implementation here
-
-		Coordinate checkedCoordinate;
-		Piece pieceOnBoard;
-
-		for (int column = 0; column < Board.SIZE; column++) {
-			for (int row = 0; row < Board.SIZE; row++) {
-
-				checkedCoordinate = new Coordinate(column, row);
-
-				pieceOnBoard = board.getPieceAt(checkedCoordinate);
-
-				if (pieceOnBoard == null) {
-					continue;
-				}
-				Color colorOfPieceOnBoard = pieceOnBoard.getColor();
-				if (colorOfPieceOnBoard != nextMoveColor) {
-					continue;
-				}
+	/**
+	 * Adds legal moves of the figure. Check analysis has to be done for the
+	 * current position first.
+	 */
+	private void addLegalMovesOfTheFigure(int square, MoveList legalMoves) {
 
-				boolean thereIsAPossibleMoveForThatFigure = checkIfThereIsAPossibleMoveForOneOfTheNextMovePlayersRemainingFigure(
-						checkedCoordinate);
+		MoveValidator movingRules = MOVING_RULES[board.getPieceAt(square).ordinal()];
 
-				if (thereIsAPossibleMoveForThatFigure) {
-					return true;
-				}
+		possibleMoves.clear();
+		movingRules.generateMoves(board, square, possibleMoves);
 
+		for (int i = 0; i < possibleMoves.size(); i++) {
+			int move = possibleMoves.get(i);
+			if (isLegal(move)) {
+				legalMoves.add(move);
 			}
 		}
-
-		return false;
 	}
 
-	// TODO
-	private boolean checkIfThereIsAPossibleMoveForOneOfTheNextMovePlayersRemainingFigure(
-			Coordinate coordinateOfTheCheckedFigure) {
-
-		boolean thereIsAPossibleMoveForThatFigure = false;
+	private boolean isLegal(int move) {
 
-		Coordinate currentlyCheckedDestinationCoordinate;
-		for (int column = 0; column < Board.SIZE; column++) {
-			for (int row = 0; row < Board.SIZE; row++) {
-				currentlyCheckedDestinationCoordinate = new Coordinate(column, row);
-				try {
-					validateMove(coordinateOfTheCheckedFigure, currentlyCheckedDestinationCoordinate);
-					thereIsAPossibleMoveForThatFigure = true;
-
-					return thereIsAPossibleMoveForThatFigure;
-
-				} catch (KingInCheckException e) {
-					continue;
-				} catch (InvalidMoveException e) {
-					continue;
-				}
-
-			}
+		Piece capturedPiece = EncodedMove.getCapturedPiece(move);
+		if (capturedPiece != null && capturedPiece.getType() == PieceType.KING) {
+			return true;
 		}
 
-		return thereIsAPossibleMoveForThatFigure;
-	}
-
-	private Color calculateNextMoveColor() {
-		if (this.board.getMoveHistory().size() % 2 == 0) {
-			return Color.WHITE;
-		} else {
-			return Color.BLACK;
+		Piece movedPiece = EncodedMove.getMovedPiece(move);
+		if (movedPiece.getType() != PieceType.KING && EncodedMove.getType(move) != MoveType.EN_PASSANT) {
+			return checkAnalysis.isMoveOfNonKingPieceLegal(EncodedMove.getFrom(move), EncodedMove.getTo(move));
 		}
-	}
 
-	private int findLastNonAttackMoveIndex() {
-		int counter = 0;
-		int lastNonAttackMoveIndex = 0;
+		// king moves and en passant are made on the board to be checked
+		Color movingPlayersColor = movedPiece.getColor();
+		makeMove(move);
+		boolean kingIsInCheck = isKingInCheck(movingPlayersColor);
+		unmakeMove();
 
-		for (Move move : this.board.getMoveHistory()) {
-			if (move.getType() != MoveType.ATTACK) {
-				lastNonAttackMoveIndex = counter;
-			}
-			counter++;
-		}
+		return !kingIsInCheck;
+	}
 
-		return lastNonAttackMoveIndex;
+	private Color calculateNextMoveColor() {
+		return this.board.getSideToMove();
 	}
 
 }
@@ -0,0 +1,98 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import com.capgemini.chess.algorithms.data.BoardView;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.generated.AttackTables;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Pieces checking the king of the player and pieces pinned to it, computed
+ * once per position. Moves of pieces other than the king can then be checked
+ * for legality with masks, without making them on the board.
+ *
+ */
+final class CheckAnalysis {
+
+	private static final long ALL_SQUARES = -1L;
+
+	private long checkers;
+	private long checkMask;
+	private long pinnedPieces;
+	private final long[] pinRays = new long[Board.NUMBER_OF_SQUARES];
+
+	/**
+	 * Analyzes the position for the player of given color.
+	 *
+	 * @param board
+	 *            analyzed position
+	 * @param color
+	 *            color of the player whose king is analyzed
+	 */
+	void analyze(BoardView board, Color color) {
+		checkers = 0;
+		checkMask = ALL_SQUARES;
+		pinnedPieces = 0;
+
+		int kingsSquare = board.getKingSquare(color);
+		if (kingsSquare == Board.NO_SQUARE) {
+			return;
+		}
+
+		boolean playerIsWhite = color == Color.WHITE;
+		Color opponentsColor = playerIsWhite ? Color.BLACK : Color.WHITE;
+
+		checkers = board.getAttackers(kingsSquare, opponentsColor);
+		if (Long.bitCount(checkers) == 1) {
+			int checkersSquare = Long.numberOfTrailingZeros(checkers);
+			checkMask = AttackTables.squaresBetween(kingsSquare, checkersSquare) | checkers;
+		} else if (checkers != 0) {
+			checkMask = 0;
+		}
+
+		long opponentsQueens = board.getPieceBitboard(playerIsWhite ? Piece.BLACK_QUEEN : Piece.WHITE_QUEEN);
+		long opponentsRooks = board.getPieceBitboard(playerIsWhite ? Piece.BLACK_ROOK : Piece.WHITE_ROOK);
+		long opponentsBishops = board.getPieceBitboard(playerIsWhite ? Piece.BLACK_BISHOP : Piece.WHITE_BISHOP);
+
+		// sliders which would attack the king on an empty board
+		long snipers = (AttackTables.rookAttacks(kingsSquare, 0) & (opponentsRooks | opponentsQueens))
+				| (AttackTables.bishopAttacks(kingsSquare, 0) & (opponentsBishops | opponentsQueens));
+		long occupancy = board.getOccupancy();
+		long ownPieces = board.getOccupancy(color);
+
+		while (snipers != 0) {
+			int snipersSquare = Long.numberOfTrailingZeros(snipers);
+			snipers &= snipers - 1;
+
+			long squaresBetween = AttackTables.squaresBetween(kingsSquare, snipersSquare);
+			long blockers = squaresBetween & occupancy;
+			if (Long.bitCount(blockers) == 1 && (blockers & ownPieces) != 0) {
+				pinnedPieces |= blockers;
+				pinRays[Long.numberOfTrailingZeros(blockers)] = squaresBetween | (1L << snipersSquare);
+			}
+		}
+	}
+
+	boolean isKingInCheck() {
+		return checkers != 0;
+	}
+
+	/**
+	 * Checks if the move of a piece other than the king is legal. En passant
+	 * captures are not covered, as they remove a piece from outside the
+	 * destination square.
+	 *
+	 * @param from
+	 *            square index of 'from' field
+	 * @param to
+	 *            square index of 'to' field
+	 * @return true if the move does not leave the king in check
+	 */
+	boolean isMoveOfNonKingPieceLegal(int from, int to) {
+		long destination = 1L << to;
+		if ((destination & checkMask) == 0) {
+			return false;
+		}
+		return (pinnedPieces & (1L << from)) == 0 || (destination & pinRays[from]) != 0;
+	}
+}
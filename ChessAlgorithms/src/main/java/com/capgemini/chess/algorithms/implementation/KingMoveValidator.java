@@ -1,31 +1,35 @@
 package com.capgemini.chess.algorithms.implementation;
 
-import java.util.List;
-
-import com.capgemini.chess.algorithms.data.Coordinate;
-import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.BoardView;
+import com.capgemini.chess.algorithms.data.EncodedMove;
+import com.capgemini.chess.algorithms.data.MoveList;
 import com.capgemini.chess.algorithms.data.MoveValidator;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
-import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.generated.AttackTables;
 import com.capgemini.chess.algorithms.data.generated.Board;
 
 public class KingMoveValidator implements MoveValidator {
 
-	MoveType possibleMoveType;
-	Board currentBoard;
+	private static final int WHITE_KINGS_INITIAL_SQUARE = 4;
+	private static final int BLACK_KINGS_INITIAL_SQUARE = 60;
+	private static final int KINGSIDE_ROOK_DISTANCE = 3;
+	private static final int QUEENSIDE_ROOK_DISTANCE = 4;
+	// kingside and queenside move of the king
+	private static final int[] CASTLING_STEPS = { 2, -2 };
 
 	@Override
-	public boolean isMovePossible(Coordinate from, Coordinate to) {
+	public MoveType validate(BoardView board, int from, int to) {
 
 		boolean isMovePossible = false;
 		boolean castlingIsPossible = false;
 
-		int figurePositionX = from.getX();
-		int figurePositionY = from.getY();
+		int figurePositionX = from % Board.SIZE;
+		int figurePositionY = from / Board.SIZE;
 
-		int destinationPositionX = to.getX();
-		int destinationPositionY = to.getY();
+		int destinationPositionX = to % Board.SIZE;
+		int destinationPositionY = to / Board.SIZE;
 
 		int columnsDelta = destinationPositionX - figurePositionX;
 		int rowsDelta = destinationPositionY - figurePositionY;
@@ -36,8 +40,8 @@ public class KingMoveValidator implements MoveValidator {
 			isMovePossible = true;
 		} else if (Math.abs(columnsDelta) == 1 && Math.abs(rowsDelta) == 1) {
 			isMovePossible = true;
-		} else if (Math.abs(columnsDelta) > 1) {
-			castlingIsPossible = checkIfCastlingIsPossible(from, to);
+		} else if (Math.abs(columnsDelta) > 1 && rowsDelta == 0) {
+			castlingIsPossible = checkIfCastlingIsPossible(board, from, to);
 			if (castlingIsPossible) {
 				isMovePossible = true;
 			} else {
@@ -45,47 +49,55 @@ public class KingMoveValidator implements MoveValidator {
 			}
 		}
 
-
-		if (isMovePossible) {
-			if (castlingIsPossible) {
-				possibleMoveType = MoveType.CASTLING;
-			} else if (currentBoard.getPieceAt(to) == null) {
-				possibleMoveType = MoveType.ATTACK;
-			} else if (currentBoard.getPieceAt(to) != null) {
-				possibleMoveType = MoveType.CAPTURE;
-			}
-
+		if (!isMovePossible) {
+			return null;
 		}
 
-		return isMovePossible;
+		if (castlingIsPossible) {
+			return MoveType.CASTLING;
+		} else if (board.getPieceAt(to) == null) {
+			return MoveType.ATTACK;
+		} else {
+			return MoveType.CAPTURE;
+		}
 	}
 
-	private boolean checkIfCastlingIsPossible(Coordinate from, Coordinate to) {
-
-		List<Move> moveHistory = currentBoard.getMoveHistory();
-
-		PieceType typeOfPieceStandingOnFromCoordinate = currentBoard.getPieceAt(from).getType();
-		Color colorOfPieceStandingOnFromCoordinate = currentBoard.getPieceAt(from).getColor();
+	@Override
+	public void generateMoves(BoardView board, int from, MoveList moves) {
+		MoveGeneration.addStepMoves(board, from, MoveGeneration.KING_STEPS, moves);
+
+		Piece king = board.getPieceAt(from);
+		for (int castlingStep : CASTLING_STEPS) {
+			int to = from + castlingStep;
+			if (checkIfCastlingIsPossible(board, from, to)) {
+				moves.add(EncodedMove.encode(from, to, MoveType.CASTLING, king, null, null));
+			}
+		}
+	}
 
-		if (!moveHistory.isEmpty()) {
+	private boolean checkIfCastlingIsPossible(BoardView board, int from, int to) {
 
-			for (Move move : moveHistory) {
-				if (move.getMovedPiece().getType().equals(typeOfPieceStandingOnFromCoordinate)
-						|| (move.getMovedPiece().getType().equals(PieceType.ROOK)
-								&& move.getMovedPiece().getColor().equals(colorOfPieceStandingOnFromCoordinate))) {
-					return false;
-				}
+		Color colorOfPieceStandingOnFromCoordinate = board.getPieceAt(from).getColor();
+		int castlingRightUsedByTheMove = getCastlingRightUsedByTheMove(colorOfPieceStandingOnFromCoordinate, from, to);
 
-			}
+		if ((board.getCastlingRights() & castlingRightUsedByTheMove) == 0) {
+			return false;
+		}
 
+		int rooksSquare = to > from ? from + KINGSIDE_ROOK_DISTANCE : from - QUEENSIDE_ROOK_DISTANCE;
+		Piece ownRook = colorOfPieceStandingOnFromCoordinate == Color.WHITE ? Piece.WHITE_ROOK : Piece.BLACK_ROOK;
+		if (board.getPieceAt(rooksSquare) != ownRook) {
+			return false;
 		}
 
-		boolean thereIsSomethingBetweenKingAndRook = checkIfThereIsAPieceBetweenKingAndRook();
+		boolean thereIsSomethingBetweenKingAndRook = checkIfThereIsAPieceBetweenKingAndRook(board, from, rooksSquare);
 		if (thereIsSomethingBetweenKingAndRook) {
 			return false;
 		}
 
-		boolean theKingIsInCheckOrGoesThroughCheck = checkIfTheKingIsInCheckOrGoesThroughCheck();
+		Color opponentsColor = colorOfPieceStandingOnFromCoordinate == Color.WHITE ? Color.BLACK : Color.WHITE;
+		boolean theKingIsInCheckOrGoesThroughCheck = checkIfTheKingIsInCheckOrGoesThroughCheck(board, from, to,
+				opponentsColor);
 
 		if (theKingIsInCheckOrGoesThroughCheck) {
 			return false;
@@ -95,26 +107,35 @@ public class KingMoveValidator implements MoveValidator {
 
 	}
 
-	private boolean checkIfTheKingIsInCheckOrGoesThroughCheck() {
-		// TODO Auto-generated method stub
-		return true;
-	}
-
-	private boolean checkIfThereIsAPieceBetweenKingAndRook() {
-		// TODO Auto-generated method stub
-		return true;
+	/**
+	 * Gets castling right needed to move the king from its initial square two
+	 * fields aside.
+	 *
+	 * @return castling right or 0 if the move is not a castling
+	 */
+	private int getCastlingRightUsedByTheMove(Color color, int from, int to) {
+		int kingsInitialSquare = color == Color.WHITE ? WHITE_KINGS_INITIAL_SQUARE : BLACK_KINGS_INITIAL_SQUARE;
+		if (from != kingsInitialSquare) {
+			return 0;
+		}
+		if (to == from + CASTLING_STEPS[0]) {
+			return color == Color.WHITE ? Board.WHITE_KINGSIDE_CASTLING : Board.BLACK_KINGSIDE_CASTLING;
+		}
+		if (to == from + CASTLING_STEPS[1]) {
+			return color == Color.WHITE ? Board.WHITE_QUEENSIDE_CASTLING : Board.BLACK_QUEENSIDE_CASTLING;
+		}
+		return 0;
 	}
 
-	@Override
-	public MoveType getTypeOfTheValidatedMove() {
-
-		return possibleMoveType;
+	private boolean checkIfTheKingIsInCheckOrGoesThroughCheck(BoardView board, int from, int to,
+			Color opponentsColor) {
+		int passedSquare = (from + to) / 2;
+		return board.isSquareAttacked(from, opponentsColor) || board.isSquareAttacked(passedSquare, opponentsColor)
+				|| board.isSquareAttacked(to, opponentsColor);
 	}
 
-	@Override
-	public void setCurrentBoard(Board currentBoard) {
-
-		this.currentBoard = currentBoard;
+	private boolean checkIfThereIsAPieceBetweenKingAndRook(BoardView board, int kingsSquare, int rooksSquare) {
+		return (AttackTables.squaresBetween(kingsSquare, rooksSquare) & board.getOccupancy()) != 0;
 	}
 
 }
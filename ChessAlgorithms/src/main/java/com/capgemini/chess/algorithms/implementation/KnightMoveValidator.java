@@ -1,6 +1,7 @@
 package com.capgemini.chess.algorithms.implementation;
 
-import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.BoardView;
+import com.capgemini.chess.algorithms.data.MoveList;
 import com.capgemini.chess.algorithms.data.MoveValidator;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.Piece;
@@ -8,17 +9,14 @@ import com.capgemini.chess.algorithms.data.generated.Board;
 
 public class KnightMoveValidator implements MoveValidator {
 
-	MoveType possibleMoveType;
-	Board currentBoard;
-
 	@Override
-	public boolean isMovePossible(Coordinate from, Coordinate to) {
+	public MoveType validate(BoardView board, int from, int to) {
 
 		boolean isMovePossible = false;
-		int figurePositionX = from.getX();
-		int figurePositionY = from.getY();
-		int destinationPositionX = to.getX();
-		int destinationPositionY = to.getY();
+		int figurePositionX = from % Board.SIZE;
+		int figurePositionY = from / Board.SIZE;
+		int destinationPositionX = to % Board.SIZE;
+		int destinationPositionY = to / Board.SIZE;
 
 		if (destinationPositionX > figurePositionX && destinationPositionY > figurePositionY) {
 
@@ -27,7 +25,7 @@ public class KnightMoveValidator implements MoveValidator {
 			} else if (destinationPositionX == figurePositionX + 1 && destinationPositionY == figurePositionY + 2) {
 				isMovePossible = true;
 			} else
-				return false;
+				return null;
 		}
 
 		if (destinationPositionX < figurePositionX && destinationPositionY < figurePositionY) {
@@ -37,7 +35,7 @@ public class KnightMoveValidator implements MoveValidator {
 			} else if (destinationPositionX == figurePositionX - 1 && destinationPositionY == figurePositionY - 2) {
 				isMovePossible = true;
 			} else
-				return false;
+				return null;
 		}
 
 		if (destinationPositionX > figurePositionX && destinationPositionY < figurePositionY) {
@@ -47,7 +45,7 @@ public class KnightMoveValidator implements MoveValidator {
 			} else if (destinationPositionX == figurePositionX + 1 && destinationPositionY == figurePositionY - 2) {
 				isMovePossible = true;
 			} else
-				return false;
+				return null;
 		}
 
 		if (destinationPositionX < figurePositionX && destinationPositionY > figurePositionY) {
@@ -57,32 +55,24 @@ public class KnightMoveValidator implements MoveValidator {
 			} else if (destinationPositionX == figurePositionX - 1 && destinationPositionY == figurePositionY + 2) {
 				isMovePossible = true;
 			} else
-				return false;
+				return null;
 		}
 
-		if (isMovePossible) {
-			Piece pieceStandingOnToCoordinate = currentBoard.getPieceAt(to);
-			if (pieceStandingOnToCoordinate == null) {
-				possibleMoveType = MoveType.ATTACK;
-			} else {
-				possibleMoveType = MoveType.CAPTURE;
-			}
+		if (!isMovePossible) {
+			return null;
 		}
 
-		return isMovePossible;
-	}
-
-	@Override
-	public MoveType getTypeOfTheValidatedMove() {
-
-		return possibleMoveType;
+		Piece pieceStandingOnToCoordinate = board.getPieceAt(to);
+		if (pieceStandingOnToCoordinate == null) {
+			return MoveType.ATTACK;
+		} else {
+			return MoveType.CAPTURE;
+		}
 	}
 
 	@Override
-	public void setCurrentBoard(Board currentBoard) {
-
-		this.currentBoard = currentBoard;
-
+	public void generateMoves(BoardView board, int from, MoveList moves) {
+		MoveGeneration.addStepMoves(board, from, MoveGeneration.KNIGHT_STEPS, moves);
 	}
 
 }
@@ -0,0 +1,158 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import com.capgemini.chess.algorithms.data.BoardView;
+import com.capgemini.chess.algorithms.data.EncodedMove;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Helpers shared by move generators of the move validators. Steps are given
+ * as column and row changes.
+ *
+ */
+final class MoveGeneration {
+
+	static final int[][] KING_STEPS = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 }, { 1, 1 }, { 1, -1 }, { -1, 1 },
+			{ -1, -1 } };
+	static final int[][] KNIGHT_STEPS = { { 2, 1 }, { 1, 2 }, { -1, 2 }, { -2, 1 }, { -2, -1 }, { -1, -2 },
+			{ 1, -2 }, { 2, -1 } };
+
+	private static final Piece[] WHITE_PROMOTION_PIECES = { Piece.WHITE_QUEEN, Piece.WHITE_ROOK,
+			Piece.WHITE_BISHOP, Piece.WHITE_KNIGHT };
+	private static final Piece[] BLACK_PROMOTION_PIECES = { Piece.BLACK_QUEEN, Piece.BLACK_ROOK,
+			Piece.BLACK_BISHOP, Piece.BLACK_KNIGHT };
+
+	private MoveGeneration() {
+	}
+
+	/**
+	 * Adds moves of a piece which makes single steps, like king or knight.
+	 *
+	 * @param board
+	 *            chess board
+	 * @param from
+	 *            square index of the piece
+	 * @param steps
+	 *            possible steps of the piece
+	 * @param moves
+	 *            list the moves are added to
+	 */
+	static void addStepMoves(BoardView board, int from, int[][] steps, MoveList moves) {
+		Piece movedPiece = board.getPieceAt(from);
+		int x = from % Board.SIZE;
+		int y = from / Board.SIZE;
+
+		for (int[] step : steps) {
+			int destinationX = x + step[0];
+			int destinationY = y + step[1];
+			if (isInBoardRange(destinationX, destinationY)) {
+				addMoveIfNotOwnPiece(board, movedPiece, from, destinationY * Board.SIZE + destinationX, moves);
+			}
+		}
+	}
+
+	/**
+	 * Adds moves of a piece to the attacked squares which are not occupied by
+	 * own pieces.
+	 *
+	 * @param board
+	 *            chess board
+	 * @param from
+	 *            square index of the piece
+	 * @param attackedSquares
+	 *            bitboard of squares attacked by the piece
+	 * @param moves
+	 *            list the moves are added to
+	 */
+	static void addMovesToAttackedSquares(BoardView board, int from, long attackedSquares, MoveList moves) {
+		Piece movedPiece = board.getPieceAt(from);
+		long destinations = attackedSquares & ~board.getOccupancy(movedPiece.getColor());
+
+		while (destinations != 0) {
+			int to = Long.numberOfTrailingZeros(destinations);
+			destinations &= destinations - 1;
+
+			Piece capturedPiece = board.getPieceAt(to);
+			MoveType type = capturedPiece == null ? MoveType.ATTACK : MoveType.CAPTURE;
+			moves.add(EncodedMove.encode(from, to, type, movedPiece, capturedPiece, null));
+		}
+	}
+
+	/**
+	 * Adds moves of a pawn, including double steps from the starting rank,
+	 * captures, en passant and all promotions.
+	 *
+	 * @param board
+	 *            chess board
+	 * @param from
+	 *            square index of the pawn
+	 * @param rowChange
+	 *            1 for white pawns, -1 for black pawns
+	 * @param moves
+	 *            list the moves are added to
+	 */
+	static void addPawnMoves(BoardView board, int from, int rowChange, MoveList moves) {
+		Piece pawn = board.getPieceAt(from);
+		int x = from % Board.SIZE;
+		int y = from / Board.SIZE;
+		int destinationY = y + rowChange;
+		if (!isInBoardRange(x, destinationY)) {
+			return;
+		}
+
+		int oneStepForward = destinationY * Board.SIZE + x;
+		if (board.getPieceAt(oneStepForward) == null) {
+			addPawnMove(pawn, from, oneStepForward, MoveType.ATTACK, null, moves);
+
+			int startingRow = rowChange > 0 ? 1 : Board.SIZE - 2;
+			int twoStepsForward = oneStepForward + rowChange * Board.SIZE;
+			if (y == startingRow && board.getPieceAt(twoStepsForward) == null) {
+				moves.add(EncodedMove.encode(from, twoStepsForward, MoveType.ATTACK, pawn, null, null));
+			}
+		}
+
+		for (int columnChange = -1; columnChange <= 1; columnChange += 2) {
+			int destinationX = x + columnChange;
+			if (!isInBoardRange(destinationX, destinationY)) {
+				continue;
+			}
+			int to = destinationY * Board.SIZE + destinationX;
+			Piece capturedPiece = board.getPieceAt(to);
+			if (capturedPiece != null && capturedPiece.getColor() != pawn.getColor()) {
+				addPawnMove(pawn, from, to, MoveType.CAPTURE, capturedPiece, moves);
+			} else if (capturedPiece == null && to == board.getEnPassantSquare()) {
+				Piece passedPawn = board.getPieceAt(y * Board.SIZE + destinationX);
+				moves.add(EncodedMove.encode(from, to, MoveType.EN_PASSANT, pawn, passedPawn, null));
+			}
+		}
+	}
+
+	static boolean isInBoardRange(int x, int y) {
+		return x >= 0 && x < Board.SIZE && y >= 0 && y < Board.SIZE;
+	}
+
+	private static void addPawnMove(Piece pawn, int from, int to, MoveType type, Piece capturedPiece,
+			MoveList moves) {
+		int destinationY = to / Board.SIZE;
+		if (destinationY != 0 && destinationY != Board.SIZE - 1) {
+			moves.add(EncodedMove.encode(from, to, type, pawn, capturedPiece, null));
+			return;
+		}
+
+		Piece[] promotionPieces = pawn == Piece.WHITE_PAWN ? WHITE_PROMOTION_PIECES : BLACK_PROMOTION_PIECES;
+		for (Piece promotionPiece : promotionPieces) {
+			moves.add(EncodedMove.encode(from, to, type, pawn, capturedPiece, promotionPiece));
+		}
+	}
+
+	private static void addMoveIfNotOwnPiece(BoardView board, Piece movedPiece, int from, int to, MoveList moves) {
+		Piece capturedPiece = board.getPieceAt(to);
+		if (capturedPiece == null) {
+			moves.add(EncodedMove.encode(from, to, MoveType.ATTACK, movedPiece, null, null));
+		} else if (capturedPiece.getColor() != movedPiece.getColor()) {
+			moves.add(EncodedMove.encode(from, to, MoveType.CAPTURE, movedPiece, capturedPiece, null));
+		}
+	}
+}
@@ -1,50 +1,34 @@
 package com.capgemini.chess.algorithms.implementation;
 
-import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.BoardView;
+import com.capgemini.chess.algorithms.data.MoveList;
 import com.capgemini.chess.algorithms.data.MoveValidator;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
-import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.AttackTables;
 
 public class QueenMoveValidator implements MoveValidator {
 
-	MoveType possibleMoveType;
-	Board currentBoard;
-
 	@Override
-	public boolean isMovePossible(Coordinate from, Coordinate to) {
-
-
-		BishopMoveValidator queenDiagonallMoveValidator = new BishopMoveValidator();
-		RookMoveValidator queenStraightMoveValidator = new RookMoveValidator();
+	public MoveType validate(BoardView board, int from, int to) {
 
-		queenDiagonallMoveValidator.setCurrentBoard(this.currentBoard);
-		boolean possibleMoveIsDiagonall = queenDiagonallMoveValidator.isMovePossible(from, to);
-		boolean possibleMoveIsStraight = false;
+		long attackedSquares = AttackTables.queenAttacks(from, board.getOccupancy());
+		boolean moveIsPossible = (attackedSquares & (1L << to)) != 0;
 
-		if (possibleMoveIsDiagonall) {
-			possibleMoveType = queenDiagonallMoveValidator.getTypeOfTheValidatedMove();
-			return true;
-		} else {
-			queenStraightMoveValidator.setCurrentBoard(this.currentBoard);
-			possibleMoveIsStraight = queenStraightMoveValidator.isMovePossible(from, to);
+		if (!moveIsPossible) {
+			return null;
 		}
 
-		if (possibleMoveIsStraight) {
-			possibleMoveType = queenStraightMoveValidator.getTypeOfTheValidatedMove();
-			return true;
+		if (board.getPieceAt(to) == null) {
+			return MoveType.ATTACK;
+		} else {
+			return MoveType.CAPTURE;
 		}
-
-		return false;
 	}
 
 	@Override
-	public MoveType getTypeOfTheValidatedMove() {
-		return possibleMoveType;
+	public void generateMoves(BoardView board, int from, MoveList moves) {
+		long attackedSquares = AttackTables.queenAttacks(from, board.getOccupancy());
+		MoveGeneration.addMovesToAttackedSquares(board, from, attackedSquares, moves);
 	}
 
-	@Override
-	public void setCurrentBoard(Board currentBoard) {
-
-		this.currentBoard = currentBoard;
-	}
 }
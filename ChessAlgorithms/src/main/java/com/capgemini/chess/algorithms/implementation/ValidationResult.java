@@ -0,0 +1,47 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.implementation.exceptions.KingInCheckException;
+
+/**
+ * Result of the move validation. Reports the reason of the failure without
+ * creating an exception, which is done only when the failure is reported to
+ * the caller of the public API.
+ *
+ */
+enum ValidationResult {
+
+	VALID(null),
+	OUT_OF_BOARD("Wybrano wspolrzedne wykraczajace poza obszar planszy!"),
+	FIFTY_MOVE_RULE("Nie mozna wykonywac dalszych ruchow, poniewaz w poprzednich 50 rundach "
+			+ "zaden z graczy nie poruszyl pionkiem ani zadna figura nie zostala zbita!"),
+	SAME_COORDINATES("Wspolrzedne poczatkowe sa takie same jak wspolrzedne koncowe!"),
+	NO_PIECE_ON_FROM_COORDINATE("Na polu poczatkowym ruchu nie ma figury!"),
+	OPPONENTS_PIECE_ON_FROM_COORDINATE("Na polu poczatkowym ruchu znajduje sie figura przeciwnika!"),
+	OWN_PIECE_ON_TO_COORDINATE("Na polu koncowym znajduje sie jedna z twoich figur!"),
+	MOVE_NOT_POSSIBLE("Wybrana figura nie ma mozliwosci wykonania takiego ruchu!"),
+	INVALID_PROMOTION("Pionek moze zostac promowany tylko na hetmana, wieze, gonca lub skoczka!"),
+	KING_IN_CHECK(null);
+
+	private final String message;
+
+	ValidationResult(String message) {
+		this.message = message;
+	}
+
+	public boolean isValid() {
+		return this == VALID;
+	}
+
+	/**
+	 * Creates exception describing the failure.
+	 *
+	 * @return exception to be thrown
+	 */
+	public InvalidMoveException toException() {
+		if (this == KING_IN_CHECK) {
+			return new KingInCheckException();
+		}
+		return new InvalidMoveException(message);
+	}
+}
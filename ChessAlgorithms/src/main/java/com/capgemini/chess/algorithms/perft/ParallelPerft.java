@@ -0,0 +1,133 @@
+package com.capgemini.chess.algorithms.perft;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Perft splitting the tree at the first plies into fork-join tasks. Every
+ * task works on its own copy of the board and the counts of the tasks are
+ * summed. Counts of subtrees can be shared between the tasks in a hash table,
+ * so that subtrees reached by different move orders are counted once.
+ *
+ * Run without arguments to check the reference positions to depth 5, or with
+ * depth, number of split plies and hash table size in megabytes.
+ *
+ */
+public class ParallelPerft {
+
+	private static final int DEFAULT_DEPTH = 5;
+	private static final int DEFAULT_SPLIT_PLIES = 2;
+	private static final int DEFAULT_HASH_TABLE_SIZE_IN_MEGABYTES = 64;
+
+	private final Board board;
+	private final ForkJoinPool pool;
+	private final int splitPlies;
+	private final int hashTableSizeInMegabytes;
+
+	/**
+	 * Creates parallel perft running in the common pool, split at the first
+	 * two plies, without the hash table.
+	 *
+	 * @param board
+	 *            position the tree starts from, it is not changed
+	 */
+	public ParallelPerft(Board board) {
+		this(board, ForkJoinPool.commonPool(), DEFAULT_SPLIT_PLIES, 0);
+	}
+
+	/**
+	 * Creates parallel perft.
+	 *
+	 * @param board
+	 *            position the tree starts from, it is not changed
+	 * @param pool
+	 *            pool running the tasks
+	 * @param splitPlies
+	 *            number of plies at which the tree is split into tasks
+	 * @param hashTableSizeInMegabytes
+	 *            size of the table of subtree counts shared by the tasks, 0
+	 *            disables the table
+	 */
+	public ParallelPerft(Board board, ForkJoinPool pool, int splitPlies, int hashTableSizeInMegabytes) {
+		this.board = board;
+		this.pool = pool;
+		this.splitPlies = splitPlies;
+		this.hashTableSizeInMegabytes = hashTableSizeInMegabytes;
+	}
+
+	/**
+	 * Counts leaf nodes of the tree of legal moves.
+	 *
+	 * @param depth
+	 *            number of plies
+	 * @return number of leaf nodes
+	 */
+	public long perft(int depth) {
+		PerftHashTable hashTable = hashTableSizeInMegabytes > 0 ? new PerftHashTable(hashTableSizeInMegabytes)
+				: null;
+		return pool.invoke(new PerftTask(new Board(board), depth, splitPlies, hashTable));
+	}
+
+	private static class PerftTask extends RecursiveTask<Long> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Board board;
+		private final int depth;
+		private final int splitPlies;
+		private final PerftHashTable hashTable;
+
+		PerftTask(Board board, int depth, int splitPlies, PerftHashTable hashTable) {
+			this.board = board;
+			this.depth = depth;
+			this.splitPlies = splitPlies;
+			this.hashTable = hashTable;
+		}
+
+		@Override
+		protected Long compute() {
+			if (splitPlies <= 0 || depth <= 1) {
+				return new Perft(board, hashTable).perft(depth);
+			}
+
+			MoveList moves = new MoveList();
+			new BoardManager(board).generateLegalMovesIgnoringFiftyMoveRule(moves);
+
+			List<PerftTask> subtasks = new ArrayList<>(moves.size());
+			for (int i = 0; i < moves.size(); i++) {
+				Board boardAfterMove = new Board(board);
+				new BoardManager(boardAfterMove).makeMove(moves.get(i));
+				subtasks.add(new PerftTask(boardAfterMove, depth - 1, splitPlies - 1, hashTable));
+			}
+			invokeAll(subtasks);
+
+			long nodes = 0;
+			for (PerftTask subtask : subtasks) {
+				nodes += subtask.join();
+			}
+			return nodes;
+		}
+	}
+
+	public static void main(String[] args) {
+		int depth = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_DEPTH;
+		int splitPlies = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SPLIT_PLIES;
+		int hashTableSizeInMegabytes = args.length > 2 ? Integer.parseInt(args[2])
+				: DEFAULT_HASH_TABLE_SIZE_IN_MEGABYTES;
+
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		System.out.println("Threads: " + pool.getParallelism());
+		boolean allPassed = Perft.checkReferencePositions(depth,
+				(board, positionDepth) -> new ParallelPerft(board, pool, splitPlies, hashTableSizeInMegabytes)
+						.perft(positionDepth));
+		if (!allPassed) {
+			System.exit(1);
+		}
+	}
+}
@@ -0,0 +1,225 @@
+package com.capgemini.chess.algorithms.perft;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongBiFunction;
+
+import com.capgemini.chess.algorithms.data.EncodedMove;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Counts leaf nodes of the tree of legal moves to a given depth. Numbers of
+ * nodes known for reference positions reveal errors in move generation, and
+ * the time of the enumeration measures its speed.
+ *
+ * Run without arguments to check the reference positions to depth 4, with a
+ * depth to check them to that depth, or with a depth and a position in
+ * Forsyth-Edwards Notation to print nodes per root move.
+ *
+ */
+public class Perft {
+
+	private static final int DEFAULT_DEPTH = 4;
+	private static final String PROMOTION_LETTERS = "qbnr";
+
+	private final Board board;
+	private final BoardManager boardManager;
+	private final PerftHashTable hashTable;
+	// list of moves for each remaining depth, reused between the nodes
+	private MoveList[] movesAtDepth = new MoveList[0];
+
+	public Perft(Board board) {
+		this(board, null);
+	}
+
+	/**
+	 * Creates perft over the board, which looks up counts of subtrees in the
+	 * hash table.
+	 *
+	 * @param board
+	 *            position the tree starts from
+	 * @param hashTable
+	 *            table of subtree counts or null
+	 */
+	Perft(Board board, PerftHashTable hashTable) {
+		this.board = board;
+		this.boardManager = new BoardManager(board);
+		this.hashTable = hashTable;
+	}
+
+	public Perft(String fen) {
+		this(Board.fromFen(fen));
+	}
+
+	/**
+	 * Counts leaf nodes of the tree of legal moves.
+	 *
+	 * @param depth
+	 *            number of plies
+	 * @return number of leaf nodes
+	 */
+	public long perft(int depth) {
+		if (depth <= 0) {
+			return 1;
+		}
+		ensureMoveListsUpTo(depth);
+		return countNodes(depth);
+	}
+
+	/**
+	 * Counts leaf nodes separately for each legal move from the current
+	 * position.
+	 *
+	 * @param depth
+	 *            number of plies, including the root move
+	 * @return numbers of leaf nodes by root move in coordinate notation, in
+	 *         order of generation
+	 */
+	public Map<String, Long> divide(int depth) {
+		Map<String, Long> nodesByMove = new LinkedHashMap<>();
+		if (depth <= 0) {
+			return nodesByMove;
+		}
+		ensureMoveListsUpTo(depth);
+
+		MoveList rootMoves = new MoveList();
+		boardManager.generateLegalMovesIgnoringFiftyMoveRule(rootMoves);
+		for (int i = 0; i < rootMoves.size(); i++) {
+			int move = rootMoves.get(i);
+			boardManager.makeMove(move);
+			long nodes = depth == 1 ? 1 : countNodes(depth - 1);
+			boardManager.unmakeMove();
+			nodesByMove.put(toCoordinateNotation(move), nodes);
+		}
+		return nodesByMove;
+	}
+
+	/**
+	 * Writes move in coordinate notation, e.g. e2e4 or e7e8q.
+	 *
+	 * @param move
+	 *            encoded move
+	 * @return move in coordinate notation
+	 */
+	public static String toCoordinateNotation(int move) {
+		StringBuilder notation = new StringBuilder(5);
+		appendSquare(notation, EncodedMove.getFrom(move));
+		appendSquare(notation, EncodedMove.getTo(move));
+		Piece promotionPiece = EncodedMove.getPromotionPiece(move);
+		if (promotionPiece != null) {
+			notation.append(PROMOTION_LETTERS.charAt(promotionPiece.getType().ordinal() - 1));
+		}
+		return notation.toString();
+	}
+
+	private long countNodes(int depth) {
+		long key = 0;
+		if (hashTable != null && depth > 1) {
+			key = board.getZobristKey();
+			long cachedNodes = hashTable.probe(key, depth);
+			if (cachedNodes != PerftHashTable.NOT_FOUND) {
+				return cachedNodes;
+			}
+		}
+
+		MoveList moves = movesAtDepth[depth];
+		boardManager.generateLegalMovesIgnoringFiftyMoveRule(moves);
+		if (depth == 1) {
+			return moves.size();
+		}
+
+		long nodes = 0;
+		for (int i = 0; i < moves.size(); i++) {
+			boardManager.makeMove(moves.get(i));
+			nodes += countNodes(depth - 1);
+			boardManager.unmakeMove();
+		}
+
+		if (hashTable != null) {
+			hashTable.store(key, depth, nodes);
+		}
+		return nodes;
+	}
+
+	private void ensureMoveListsUpTo(int depth) {
+		if (movesAtDepth.length > depth) {
+			return;
+		}
+		MoveList[] lists = new MoveList[depth + 1];
+		for (int i = 0; i <= depth; i++) {
+			lists[i] = i < movesAtDepth.length ? movesAtDepth[i] : new MoveList();
+		}
+		movesAtDepth = lists;
+	}
+
+	private static void appendSquare(StringBuilder notation, int square) {
+		notation.append((char) ('a' + square % Board.SIZE)).append((char) ('1' + square / Board.SIZE));
+	}
+
+	public static void main(String[] args) {
+		int depth = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_DEPTH;
+		if (args.length > 1) {
+			printDivide(String.join(" ", Arrays.copyOfRange(args, 1, args.length)), depth);
+		} else {
+			boolean allPassed = checkReferencePositions(depth,
+					(board, positionDepth) -> new Perft(board).perft(positionDepth));
+			if (!allPassed) {
+				System.exit(1);
+			}
+		}
+	}
+
+	private static void printDivide(String fen, int depth) {
+		long start = System.nanoTime();
+		Map<String, Long> nodesByMove = new Perft(fen).divide(depth);
+		long elapsedNanos = System.nanoTime() - start;
+
+		long totalNodes = 0;
+		for (Map.Entry<String, Long> entry : nodesByMove.entrySet()) {
+			System.out.println(entry.getKey() + ": " + entry.getValue());
+			totalNodes += entry.getValue();
+		}
+		System.out.println();
+		System.out.println("Moves: " + nodesByMove.size());
+		System.out.println("Nodes: " + totalNodes);
+		printSpeed(totalNodes, elapsedNanos);
+	}
+
+	/**
+	 * Counts nodes of the reference positions and compares them with the
+	 * known counts, printing the results and speed.
+	 *
+	 * @param depth
+	 *            depth of the enumeration, limited by the depth of known counts
+	 * @param nodeCounter
+	 *            counts nodes of the tree from the board to the depth
+	 * @return true if all counts are correct
+	 */
+	static boolean checkReferencePositions(int depth, ToLongBiFunction<Board, Integer> nodeCounter) {
+		boolean allPassed = true;
+		for (PerftPosition position : PerftPosition.values()) {
+			int positionDepth = Math.min(depth, position.getMaxDepth());
+			long start = System.nanoTime();
+			long nodes = nodeCounter.applyAsLong(Board.fromFen(position.getFen()), positionDepth);
+			long elapsedNanos = System.nanoTime() - start;
+
+			long expectedNodes = position.getExpectedNodes(positionDepth);
+			boolean passed = nodes == expectedNodes;
+			allPassed &= passed;
+			System.out.println(position + " depth " + positionDepth + ": " + nodes + " nodes, expected "
+					+ expectedNodes + (passed ? " - OK" : " - FAILED"));
+			printSpeed(nodes, elapsedNanos);
+		}
+		return allPassed;
+	}
+
+	static void printSpeed(long nodes, long elapsedNanos) {
+		long elapsedMillis = elapsedNanos / 1_000_000;
+		long nodesPerSecond = elapsedNanos == 0 ? 0 : nodes * 1_000_000_000L / elapsedNanos;
+		System.out.println("Time: " + elapsedMillis + " ms, " + nodesPerSecond + " nodes/s");
+	}
+}
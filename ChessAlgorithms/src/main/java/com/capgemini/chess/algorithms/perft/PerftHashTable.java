@@ -0,0 +1,60 @@
+package com.capgemini.chess.algorithms.perft;
+
+/**
+ * Node counts of subtrees keyed by position and depth, shared by perft tasks
+ * running in parallel. Entries are written without locks - each keeps the
+ * key xor-ed with the data next to the data, so an entry torn by concurrent
+ * writes does not match its key and is treated as missing.
+ *
+ */
+final class PerftHashTable {
+
+	static final long NOT_FOUND = -1;
+
+	private static final int DEPTH_BITS = 8;
+	private static final long DEPTH_MASK = (1L << DEPTH_BITS) - 1;
+	private static final int LONGS_PER_ENTRY = 2;
+	private static final int BYTES_PER_ENTRY = LONGS_PER_ENTRY * Long.BYTES;
+
+	private final long[] entries;
+	private final int indexMask;
+
+	/**
+	 * Creates table of given size.
+	 *
+	 * @param sizeInMegabytes
+	 *            size of the table, rounded down to a power of two number of
+	 *            entries
+	 */
+	PerftHashTable(int sizeInMegabytes) {
+		long requestedEntries = Math.max(1L, sizeInMegabytes * 1024L * 1024L / BYTES_PER_ENTRY);
+		int numberOfEntries = Integer.highestOneBit((int) Math.min(requestedEntries, 1 << 28));
+		entries = new long[numberOfEntries * LONGS_PER_ENTRY];
+		indexMask = numberOfEntries - 1;
+	}
+
+	/**
+	 * Gets number of nodes of the subtree.
+	 *
+	 * @return number of nodes or NOT_FOUND
+	 */
+	long probe(long key, int depth) {
+		int index = indexOf(key);
+		long data = entries[index + 1];
+		if ((entries[index] ^ data) != key || (data & DEPTH_MASK) != depth) {
+			return NOT_FOUND;
+		}
+		return data >>> DEPTH_BITS;
+	}
+
+	void store(long key, int depth, long nodes) {
+		int index = indexOf(key);
+		long data = (nodes << DEPTH_BITS) | depth;
+		entries[index] = key ^ data;
+		entries[index + 1] = data;
+	}
+
+	private int indexOf(long key) {
+		return ((int) (key ^ (key >>> 32)) & indexMask) * LONGS_PER_ENTRY;
+	}
+}
@@ -0,0 +1,47 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Receives games read by {@link PgnReader}, one event at a time. Texts passed
+ * to the handler are views of the reader's buffers, valid only until the
+ * method returns - call toString() to keep them.
+ *
+ */
+public interface PgnGameHandler {
+
+	default void startGame() {
+	}
+
+	/**
+	 * Receives tag pair from the header of the game.
+	 *
+	 * @param name
+	 *            tag name
+	 * @param value
+	 *            tag value with escape characters removed
+	 */
+	default void header(CharSequence name, CharSequence value) {
+	}
+
+	/**
+	 * Receives move of the game before it is made on the board.
+	 *
+	 * @param board
+	 *            position the move is made in
+	 * @param move
+	 *            encoded move
+	 */
+	void move(Board board, int move);
+
+	/**
+	 * Receives end of the game.
+	 *
+	 * @param board
+	 *            final position of the game
+	 * @param result
+	 *            game termination marker: 1-0, 0-1, 1/2-1/2 or *
+	 */
+	default void endGame(Board board, CharSequence result) {
+	}
+}
@@ -0,0 +1,499 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.capgemini.chess.algorithms.data.EncodedMove;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Streaming reader of games in Portable Game Notation. The file is mapped
+ * into memory window by window and read byte by byte into reusable buffers,
+ * so neither lines nor whole games are kept. Moves in Standard Algebraic
+ * Notation are resolved against the legal moves of the current position and
+ * passed to the handler one by one.
+ *
+ * Comments, variations, numeric annotation glyphs and escaped lines
+ * starting with % in the first column are skipped. A reader must not be used
+ * by many threads at once.
+ *
+ * The reader drops every window as soon as its last byte is read. Java has
+ * no public way to unmap a file, so the memory of dropped windows is
+ * released only when the garbage collector frees their buffers; on very
+ * large files the process may hold several windows mapped at once.
+ *
+ */
+public class PgnReader {
+
+	private static final long DEFAULT_MAP_WINDOW_SIZE = 1L << 26;
+	private static final ByteBuffer EMPTY_WINDOW = ByteBuffer.allocate(0);
+
+	private static final int END_OF_INPUT = -1;
+	private static final int NOTHING_PUSHED_BACK = -2;
+
+	private static final String UNKNOWN_RESULT = "*";
+	private static final String FEN_TAG = "FEN";
+	// indexed by piece type ordinal
+	private static final String PIECE_LETTERS = "KQBNRP";
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+	private static final String TOKEN_DELIMITERS = "{}()[];$";
+	private static final String MOVE_SUFFIXES = "+#!?";
+
+	private static final int KINGSIDE_CASTLING_KINGS_X = 6;
+	private static final int QUEENSIDE_CASTLING_KINGS_X = 2;
+
+	private final PgnGameHandler handler;
+	private final long mapWindowSize;
+
+	private final PgnText headerName = new PgnText();
+	private final PgnText headerValue = new PgnText();
+	private final PgnText fen = new PgnText();
+	private final PgnText token = new PgnText();
+	private final MoveList legalMoves = new MoveList();
+	// reused by games from the initial position, its moves are taken back
+	// at the end of each game
+	private final BoardManager initialPositionManager = new BoardManager();
+
+	private FileChannel channel;
+	private long channelSize;
+	private long windowStart;
+	private ByteBuffer window = EMPTY_WINDOW;
+	private int pushedBack = NOTHING_PUSHED_BACK;
+	private boolean pushedBackAtLineStart;
+	// the start of the input counts as a line start
+	private int previousCharacter = '\n';
+	// set if the last character read is in the first column
+	private boolean atLineStart;
+
+	private boolean gameStarted;
+	// set at the first move of the game, so that the FEN tag is known
+	private BoardManager boardManager;
+	private long gamesRead;
+
+	public PgnReader(PgnGameHandler handler) {
+		this(handler, DEFAULT_MAP_WINDOW_SIZE);
+	}
+
+	/**
+	 * Creates reader which maps files in windows of given size.
+	 *
+	 * @param handler
+	 *            receiver of the games
+	 * @param mapWindowSize
+	 *            number of bytes mapped at once
+	 */
+	PgnReader(PgnGameHandler handler, long mapWindowSize) {
+		this.handler = handler;
+		this.mapWindowSize = mapWindowSize;
+	}
+
+	/**
+	 * Reads all games from the file.
+	 *
+	 * @param path
+	 *            file in Portable Game Notation
+	 * @return number of games read
+	 * @throws IOException
+	 *             in case the file cannot be read
+	 * @throws IllegalArgumentException
+	 *             in case a move is illegal or ambiguous, or a FEN tag is
+	 *             malformed
+	 */
+	public long read(Path path) throws IOException {
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+			channel = fileChannel;
+			channelSize = fileChannel.size();
+			return readFromWindows(EMPTY_WINDOW);
+		} finally {
+			channel = null;
+		}
+	}
+
+	/**
+	 * Reads all games from the remaining bytes of the buffer. Position of the
+	 * buffer is not changed.
+	 *
+	 * @param buffer
+	 *            games in Portable Game Notation
+	 * @return number of games read
+	 * @throws IllegalArgumentException
+	 *             in case a move is illegal or ambiguous, or a FEN tag is
+	 *             malformed
+	 */
+	public long read(ByteBuffer buffer) {
+		try {
+			return readFromWindows(buffer.slice());
+		} catch (IOException e) {
+			// buffers are not mapped from files
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private long readFromWindows(ByteBuffer firstWindow) throws IOException {
+		window = firstWindow;
+		windowStart = 0;
+		pushedBack = NOTHING_PUSHED_BACK;
+		previousCharacter = '\n';
+		gameStarted = false;
+		boardManager = null;
+		gamesRead = 0;
+		try {
+			readGames();
+		} finally {
+			window = EMPTY_WINDOW;
+			releaseBoardOfTheGame();
+		}
+		return gamesRead;
+	}
+
+	private void readGames() throws IOException {
+		int character;
+		while ((character = skipWhitespace()) != END_OF_INPUT) {
+			switch (character) {
+			case '[':
+				readHeader();
+				break;
+			case '{':
+				skipComment();
+				break;
+			case ';':
+				skipLine();
+				break;
+			case '%':
+				// escape mechanism, valid only in the first column
+				if (atLineStart) {
+					skipLine();
+				} else {
+					readToken(character);
+					readMovetextToken();
+				}
+				break;
+			case '(':
+				skipVariation();
+				break;
+			case '$':
+				readToken(character);
+				break;
+			default:
+				readToken(character);
+				readMovetextToken();
+			}
+		}
+		if (gameStarted) {
+			finishGame(UNKNOWN_RESULT);
+		}
+	}
+
+	private void readHeader() throws IOException {
+		headerName.clear();
+		int character = skipWhitespace();
+		while (character > ' ' && character != '"' && character != ']') {
+			headerName.append(character);
+			character = read();
+		}
+		while (character != END_OF_INPUT && character <= ' ') {
+			character = read();
+		}
+
+		headerValue.clear();
+		if (character == '"') {
+			character = read();
+			while (character != END_OF_INPUT && character != '"') {
+				if (character == '\\') {
+					character = read();
+				}
+				if (character != END_OF_INPUT) {
+					headerValue.append(character);
+					character = read();
+				}
+			}
+			character = read();
+		}
+		while (character != END_OF_INPUT && character != ']') {
+			character = read();
+		}
+
+		if (gameStarted && boardManager != null) {
+			// movetext of the previous game ended without a result
+			finishGame(UNKNOWN_RESULT);
+		}
+		if (!gameStarted) {
+			startGame();
+		}
+		if (FEN_TAG.contentEquals(headerName)) {
+			fen.copyFrom(headerValue);
+		}
+		handler.header(headerName, headerValue);
+	}
+
+	private void readMovetextToken() {
+		if (isResult(token)) {
+			if (!gameStarted) {
+				startGame();
+			}
+			finishGame(token);
+			return;
+		}
+
+		// move number, like 12. or 12... before black's move
+		int sanStart = 0;
+		while (sanStart < token.length() && Character.isDigit(token.charAt(sanStart))) {
+			sanStart++;
+		}
+		if (sanStart < token.length() && token.charAt(sanStart) != '.') {
+			sanStart = 0;
+		}
+		while (sanStart < token.length() && token.charAt(sanStart) == '.') {
+			sanStart++;
+		}
+		if (sanStart == token.length()) {
+			return;
+		}
+
+		if (!gameStarted) {
+			startGame();
+		}
+		Board board = getBoardOfTheGame();
+		int move = resolveMove(sanStart);
+		handler.move(board, move);
+		boardManager.makeMove(move);
+	}
+
+	private void startGame() {
+		gameStarted = true;
+		fen.clear();
+		handler.startGame();
+	}
+
+	private void finishGame(CharSequence result) {
+		handler.endGame(getBoardOfTheGame(), result);
+		gameStarted = false;
+		releaseBoardOfTheGame();
+		gamesRead++;
+	}
+
+	private Board getBoardOfTheGame() {
+		if (boardManager == null) {
+			boardManager = fen.isEmpty() ? initialPositionManager : new BoardManager(Board.fromFen(fen));
+		}
+		return boardManager.getBoard();
+	}
+
+	private void releaseBoardOfTheGame() {
+		boardManager = null;
+		while (!initialPositionManager.getBoard().getEncodedMoveHistory().isEmpty()) {
+			initialPositionManager.unmakeMove();
+		}
+	}
+
+	/**
+	 * Finds legal move of the current position written in Standard Algebraic
+	 * Notation in the token.
+	 *
+	 * @param sanStart
+	 *            index of the first character of the move in the token
+	 * @return encoded move
+	 */
+	private int resolveMove(int sanStart) {
+		int sanEnd = token.length();
+		while (sanEnd > sanStart && MOVE_SUFFIXES.indexOf(token.charAt(sanEnd - 1)) >= 0) {
+			sanEnd--;
+		}
+		boardManager.generateLegalMovesIgnoringFiftyMoveRule(legalMoves);
+
+		int castlingKingsX = getCastlingKingsX(sanStart, sanEnd);
+		if (castlingKingsX >= 0) {
+			for (int i = 0; i < legalMoves.size(); i++) {
+				int move = legalMoves.get(i);
+				if (EncodedMove.getType(move) == MoveType.CASTLING
+						&& EncodedMove.getTo(move) % Board.SIZE == castlingKingsX) {
+					return move;
+				}
+			}
+			throw invalidMove();
+		}
+
+		int index = sanStart;
+		PieceType pieceType = PieceType.PAWN;
+		int pieceLetter = index < sanEnd ? PIECE_LETTERS.indexOf(token.charAt(index)) : -1;
+		if (pieceLetter >= 0) {
+			pieceType = PIECE_TYPES[pieceLetter];
+			index++;
+		}
+
+		PieceType promotionType = null;
+		int promotionLetter = sanEnd - index >= 3 ? PIECE_LETTERS.indexOf(token.charAt(sanEnd - 1)) : -1;
+		if (promotionLetter > PieceType.KING.ordinal() && promotionLetter < PieceType.PAWN.ordinal()) {
+			promotionType = PIECE_TYPES[promotionLetter];
+			sanEnd--;
+			if (token.charAt(sanEnd - 1) == '=') {
+				sanEnd--;
+			}
+		}
+
+		if (sanEnd - index < 2) {
+			throw invalidMove();
+		}
+		int toX = token.charAt(sanEnd - 2) - 'a';
+		int toY = token.charAt(sanEnd - 1) - '1';
+		if (toX < 0 || toX >= Board.SIZE || toY < 0 || toY >= Board.SIZE) {
+			throw invalidMove();
+		}
+
+		// disambiguation by file and rank, capture and separator signs
+		int fromX = -1;
+		int fromY = -1;
+		for (; index < sanEnd - 2; index++) {
+			char character = token.charAt(index);
+			if (character >= 'a' && character < 'a' + Board.SIZE) {
+				fromX = character - 'a';
+			} else if (character >= '1' && character < '1' + Board.SIZE) {
+				fromY = character - '1';
+			} else if (character != 'x' && character != ':' && character != '-') {
+				throw invalidMove();
+			}
+		}
+
+		int to = toY * Board.SIZE + toX;
+		int matchingMove = 0;
+		int numberOfMatchingMoves = 0;
+		for (int i = 0; i < legalMoves.size(); i++) {
+			int move = legalMoves.get(i);
+			int from = EncodedMove.getFrom(move);
+			Piece promotionPiece = EncodedMove.getPromotionPiece(move);
+			if (EncodedMove.getTo(move) != to || EncodedMove.getMovedPiece(move).getType() != pieceType
+					|| (fromX >= 0 && from % Board.SIZE != fromX) || (fromY >= 0 && from / Board.SIZE != fromY)
+					|| (promotionPiece == null ? promotionType != null : promotionPiece.getType() != promotionType)) {
+				continue;
+			}
+			matchingMove = move;
+			numberOfMatchingMoves++;
+		}
+		if (numberOfMatchingMoves != 1) {
+			throw invalidMove();
+		}
+		return matchingMove;
+	}
+
+	private int getCastlingKingsX(int sanStart, int sanEnd) {
+		int length = sanEnd - sanStart;
+		if (length != 3 && length != 5) {
+			return -1;
+		}
+		for (int i = 0; i < length; i++) {
+			char character = token.charAt(sanStart + i);
+			boolean isExpected = i % 2 == 0 ? character == 'O' || character == '0' : character == '-';
+			if (!isExpected) {
+				return -1;
+			}
+		}
+		return length == 3 ? KINGSIDE_CASTLING_KINGS_X : QUEENSIDE_CASTLING_KINGS_X;
+	}
+
+	private IllegalArgumentException invalidMove() {
+		return new IllegalArgumentException("Invalid move " + token + " in game " + (gamesRead + 1)
+				+ " before byte " + getOffset());
+	}
+
+	private static boolean isResult(CharSequence token) {
+		return "1-0".contentEquals(token) || "0-1".contentEquals(token) || "1/2-1/2".contentEquals(token)
+				|| UNKNOWN_RESULT.contentEquals(token);
+	}
+
+	private void readToken(int firstCharacter) throws IOException {
+		token.clear();
+		int character = firstCharacter;
+		do {
+			token.append(character);
+			character = read();
+		} while (character > ' ' && TOKEN_DELIMITERS.indexOf(character) < 0);
+		pushBack(character);
+	}
+
+	private void skipComment() throws IOException {
+		int character;
+		do {
+			character = read();
+		} while (character != END_OF_INPUT && character != '}');
+	}
+
+	private void skipLine() throws IOException {
+		int character;
+		do {
+			character = read();
+		} while (character != END_OF_INPUT && character != '\n');
+	}
+
+	private void skipVariation() throws IOException {
+		int depth = 1;
+		while (depth > 0) {
+			int character = read();
+			if (character == END_OF_INPUT) {
+				return;
+			} else if (character == '(') {
+				depth++;
+			} else if (character == ')') {
+				depth--;
+			} else if (character == '{') {
+				skipComment();
+			} else if (character == ';') {
+				skipLine();
+			}
+		}
+	}
+
+	private int skipWhitespace() throws IOException {
+		int character;
+		do {
+			character = read();
+		} while (character != END_OF_INPUT && character <= ' ');
+		return character;
+	}
+
+	private int read() throws IOException {
+		if (pushedBack != NOTHING_PUSHED_BACK) {
+			int character = pushedBack;
+			pushedBack = NOTHING_PUSHED_BACK;
+			atLineStart = pushedBackAtLineStart;
+			return character;
+		}
+		if (!window.hasRemaining() && !mapNextWindow()) {
+			return END_OF_INPUT;
+		}
+		int character = window.get() & 0xFF;
+		atLineStart = previousCharacter == '\n';
+		previousCharacter = character;
+		return character;
+	}
+
+	private void pushBack(int character) {
+		pushedBack = character;
+		pushedBackAtLineStart = atLineStart;
+	}
+
+	private boolean mapNextWindow() throws IOException {
+		long nextWindowStart = windowStart + window.limit();
+		if (channel == null || nextWindowStart >= channelSize) {
+			return false;
+		}
+		// drop the consumed window before the next one is mapped
+		window = EMPTY_WINDOW;
+		windowStart = nextWindowStart;
+		window = channel.map(MapMode.READ_ONLY, nextWindowStart,
+				Math.min(mapWindowSize, channelSize - nextWindowStart));
+		return true;
+	}
+
+	private long getOffset() {
+		return windowStart + window.position();
+	}
+}
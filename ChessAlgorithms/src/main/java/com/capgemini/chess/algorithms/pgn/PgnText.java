@@ -0,0 +1,65 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import java.util.Arrays;
+
+/**
+ * Reusable text buffer of single byte characters, read as ISO 8859-1 like
+ * the PGN standard specifies.
+ *
+ */
+final class PgnText implements CharSequence {
+
+	private static final int INITIAL_CAPACITY = 128;
+
+	private byte[] bytes = new byte[INITIAL_CAPACITY];
+	private int length;
+
+	void clear() {
+		length = 0;
+	}
+
+	void append(int character) {
+		if (length == bytes.length) {
+			bytes = Arrays.copyOf(bytes, length * 2);
+		}
+		bytes[length++] = (byte) character;
+	}
+
+	void copyFrom(PgnText text) {
+		clear();
+		for (int i = 0; i < text.length; i++) {
+			append(text.bytes[i]);
+		}
+	}
+
+	boolean isEmpty() {
+		return length == 0;
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+		}
+		return (char) (bytes[index] & 0xFF);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return toString().substring(start, end);
+	}
+
+	@Override
+	public String toString() {
+		char[] characters = new char[length];
+		for (int i = 0; i < length; i++) {
+			characters[i] = (char) (bytes[i] & 0xFF);
+		}
+		return new String(characters);
+	}
+}
@@ -0,0 +1,43 @@
+package com.capgemini.chess.algorithms.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates executors running every task in its own thread. Virtual threads
+ * are used when the runtime has them (Java 21 and later), so an idle
+ * connection costs little more than its socket. The method is looked up by
+ * reflection, as the project is compiled for Java 8. Older runtimes get
+ * platform threads - one per connection, each with its own stack - so they
+ * cannot hold more than a few thousand connections; check
+ * {@link #areVirtualThreadsAvailable()} to report it.
+ *
+ */
+final class ConnectionExecutors {
+
+	private ConnectionExecutors() {
+	}
+
+	static ExecutorService newThreadPerTaskExecutor() {
+		try {
+			Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factoryMethod.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	static boolean areVirtualThreadsAvailable() {
+		try {
+			Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return true;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+}
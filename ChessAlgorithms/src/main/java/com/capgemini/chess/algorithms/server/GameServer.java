@@ -0,0 +1,216 @@
+package com.capgemini.chess.algorithms.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.EncodedMove;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.session.GameSession;
+import com.capgemini.chess.algorithms.session.GameSessionRegistry;
+import com.capgemini.chess.algorithms.session.SessionSnapshot;
+
+/**
+ * Game server speaking a line protocol over a local TCP socket. Every
+ * connection is served by its own thread and the games are kept in a
+ * {@link GameSessionRegistry}. Idle connections hold no read or write
+ * buffers, see {@link RequestReader}.
+ *
+ * Hundreds of thousands of idle connections need virtual threads, available
+ * from Java 21. On older runtimes every connection takes a platform thread
+ * with its own stack, which limits the server to a few thousand connections;
+ * a warning is printed when the server starts on such a runtime.
+ *
+ * Requests and responses are single lines:
+ *
+ * <pre>
+ * NEW gameId                -> OK
+ * MOVE gameId e2 e4         -> OK moveType boardState | ERROR message
+ * STATE gameId              -> OK boardState
+ * END gameId                -> OK
+ * QUIT                      -> connection is closed
+ * </pre>
+ *
+ */
+public class GameServer implements AutoCloseable {
+
+	private static final int DEFAULT_PORT = 5050;
+	// connections waiting to be accepted, capped by the operating system
+	private static final int ACCEPT_BACKLOG = 4096;
+	private static final long MIN_ACCEPT_RETRY_DELAY_MILLIS = 10;
+	private static final long MAX_ACCEPT_RETRY_DELAY_MILLIS = 1000;
+
+	private final GameSessionRegistry registry;
+	private final ServerSocket serverSocket;
+	private final ExecutorService connectionExecutor = ConnectionExecutors.newThreadPerTaskExecutor();
+	private final AtomicInteger openConnections = new AtomicInteger();
+	private volatile boolean running = true;
+
+	/**
+	 * Starts server listening on the loopback interface.
+	 *
+	 * @param port
+	 *            port number, 0 picks a free port
+	 * @param registry
+	 *            registry of the games
+	 * @throws IOException
+	 *             in case the socket cannot be bound
+	 */
+	public GameServer(int port, GameSessionRegistry registry) throws IOException {
+		this.registry = registry;
+		this.serverSocket = new ServerSocket(port, ACCEPT_BACKLOG, InetAddress.getLoopbackAddress());
+		if (!ConnectionExecutors.areVirtualThreadsAvailable()) {
+			System.err.println("Virtual threads are not available before Java 21, "
+					+ "every connection takes a platform thread");
+		}
+		connectionExecutor.execute(this::acceptConnections);
+	}
+
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	public int getOpenConnectionCount() {
+		return openConnections.get();
+	}
+
+	@Override
+	public void close() throws IOException {
+		running = false;
+		serverSocket.close();
+		connectionExecutor.shutdownNow();
+	}
+
+	/**
+	 * Accepts connections until the socket is closed. Failures like running
+	 * out of file descriptors are retried with growing delays, so that they
+	 * do not turn into a busy loop.
+	 */
+	private void acceptConnections() {
+		long retryDelayMillis = MIN_ACCEPT_RETRY_DELAY_MILLIS;
+		while (running && !serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				connectionExecutor.execute(() -> serveConnection(socket));
+				retryDelayMillis = MIN_ACCEPT_RETRY_DELAY_MILLIS;
+			} catch (IOException e) {
+				if (!running || serverSocket.isClosed()) {
+					return;
+				}
+				System.err.println("Accepting connection failed, retrying in " + retryDelayMillis + " ms: "
+						+ e.getMessage());
+				try {
+					Thread.sleep(retryDelayMillis);
+				} catch (InterruptedException interrupted) {
+					return;
+				}
+				retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_ACCEPT_RETRY_DELAY_MILLIS);
+			}
+		}
+	}
+
+	private void serveConnection(Socket socket) {
+		openConnections.incrementAndGet();
+		try (Socket connection = socket) {
+			RequestReader reader = new RequestReader(connection.getInputStream());
+			OutputStream output = connection.getOutputStream();
+			String request;
+			while ((request = reader.readLine()) != null) {
+				String response = handleRequest(request);
+				if (response == null) {
+					break;
+				}
+				// socket streams are not buffered, the line is sent with one
+				// write
+				output.write((response + '\n').getBytes(StandardCharsets.US_ASCII));
+			}
+		} catch (SocketException e) {
+			// connection reset by the client
+		} catch (IOException e) {
+			System.err.println("Connection failed: " + e.getMessage());
+		} finally {
+			openConnections.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Handles one request line.
+	 *
+	 * @param request
+	 *            request line
+	 * @return response line or null if the connection should be closed
+	 */
+	String handleRequest(String request) {
+		String[] arguments = request.trim().split("\\s+");
+		try {
+			switch (arguments[0]) {
+			case "NEW":
+				checkNumberOfArguments(arguments, 2);
+				registry.startGame(arguments[1]);
+				return "OK";
+			case "MOVE":
+				checkNumberOfArguments(arguments, 4);
+				SessionSnapshot snapshot = registry.performMove(arguments[1], parseCoordinate(arguments[2]),
+						parseCoordinate(arguments[3]));
+				return "OK " + EncodedMove.getType(snapshot.getEncodedLastMove()) + " " + snapshot.getState();
+			case "STATE":
+				checkNumberOfArguments(arguments, 2);
+				GameSession session = registry.getSession(arguments[1]);
+				return "OK " + session.getState();
+			case "END":
+				checkNumberOfArguments(arguments, 2);
+				registry.endGame(arguments[1]);
+				return "OK";
+			case "QUIT":
+				return null;
+			default:
+				return "ERROR Unknown command " + arguments[0];
+			}
+		} catch (InvalidMoveException | IllegalArgumentException e) {
+			return "ERROR " + e.getMessage();
+		}
+	}
+
+	private static void checkNumberOfArguments(String[] arguments, int expectedNumber) {
+		if (arguments.length != expectedNumber) {
+			throw new IllegalArgumentException(arguments[0] + " expects " + (expectedNumber - 1) + " arguments");
+		}
+	}
+
+	/**
+	 * Parses square name like e2.
+	 */
+	private static Coordinate parseCoordinate(String square) {
+		if (square.length() != 2) {
+			throw new IllegalArgumentException("Invalid square " + square);
+		}
+		int x = square.charAt(0) - 'a';
+		int y = square.charAt(1) - '1';
+		if (x < 0 || x >= Board.SIZE || y < 0 || y >= Board.SIZE) {
+			throw new IllegalArgumentException("Invalid square " + square);
+		}
+		return new Coordinate(x, y);
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		GameSessionRegistry registry = new GameSessionRegistry();
+		try (GameServer server = new GameServer(port, registry)) {
+			System.out.println("Listening on port " + server.getPort() + (ConnectionExecutors
+					.areVirtualThreadsAvailable() ? " with virtual threads" : " with platform threads"));
+			while (true) {
+				Thread.sleep(10_000);
+				System.out.println("Connections: " + server.getOpenConnectionCount() + ", live games: "
+						+ registry.getLiveGameCount() + ", moves: " + registry.getPerformedMoveCount());
+			}
+		}
+	}
+}
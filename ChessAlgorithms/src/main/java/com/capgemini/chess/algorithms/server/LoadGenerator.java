@@ -0,0 +1,139 @@
+package com.capgemini.chess.algorithms.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client driving {@link GameServer} on localhost. Active connections play
+ * games as fast as the server answers, moving knights back and forth, while
+ * idle connections stay open without sending anything. Reports moves per
+ * second and latency percentiles of the moves.
+ *
+ * Arguments: [port] [active connections] [idle connections] [seconds].
+ *
+ */
+public class LoadGenerator {
+
+	private static final int DEFAULT_PORT = 5050;
+	private static final int DEFAULT_ACTIVE_CONNECTIONS = 100;
+	private static final int DEFAULT_IDLE_CONNECTIONS = 1000;
+	private static final int DEFAULT_DURATION_IN_SECONDS = 10;
+	// latencies are counted in buckets of one microsecond, the last bucket
+	// counts all longer ones
+	private static final int LATENCY_BUCKETS = 100_000;
+	private static final String[] KNIGHT_MOVES = { "g1 f3", "g8 f6", "f3 g1", "f6 g8" };
+	// games are started again before the fifty-move rule ends them
+	private static final int MOVES_PER_GAME = 96;
+
+	public static void main(String[] args) throws Exception {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		int activeConnections = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ACTIVE_CONNECTIONS;
+		int idleConnections = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_IDLE_CONNECTIONS;
+		int durationInSeconds = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_DURATION_IN_SECONDS;
+
+		List<Socket> idleSockets = new ArrayList<>(idleConnections);
+		ExecutorService executor = ConnectionExecutors.newThreadPerTaskExecutor();
+		try {
+			for (int i = 0; i < idleConnections; i++) {
+				idleSockets.add(new Socket(InetAddress.getLoopbackAddress(), port));
+			}
+			System.out.println("Idle connections open: " + idleSockets.size());
+
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationInSeconds);
+			List<Future<long[]>> results = new ArrayList<>(activeConnections);
+			for (int i = 0; i < activeConnections; i++) {
+				String gameId = "load-" + i;
+				results.add(executor.submit(() -> playUntil(port, gameId, deadline)));
+			}
+
+			long[] latencyHistogram = new long[LATENCY_BUCKETS];
+			for (Future<long[]> result : results) {
+				long[] histogram = result.get();
+				for (int bucket = 0; bucket < LATENCY_BUCKETS; bucket++) {
+					latencyHistogram[bucket] += histogram[bucket];
+				}
+			}
+			printReport(latencyHistogram, durationInSeconds);
+		} finally {
+			for (Socket socket : idleSockets) {
+				socket.close();
+			}
+			executor.shutdownNow();
+		}
+	}
+
+	private static long[] playUntil(int port, String gameId, long deadline) throws IOException {
+		long[] latencyHistogram = new long[LATENCY_BUCKETS];
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+				BufferedReader reader = new BufferedReader(
+						new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+			OutputStream output = socket.getOutputStream();
+			send(output, reader, "NEW " + gameId);
+
+			int moveNumber = 0;
+			while (System.nanoTime() < deadline) {
+				if (moveNumber == MOVES_PER_GAME) {
+					send(output, reader, "END " + gameId);
+					send(output, reader, "NEW " + gameId);
+					moveNumber = 0;
+				}
+				long start = System.nanoTime();
+				String response = send(output, reader,
+						"MOVE " + gameId + " " + KNIGHT_MOVES[moveNumber++ % KNIGHT_MOVES.length]);
+				long latencyInMicroseconds = (System.nanoTime() - start) / 1000;
+				latencyHistogram[(int) Math.min(latencyInMicroseconds, LATENCY_BUCKETS - 1)]++;
+				if (!response.startsWith("OK")) {
+					throw new IOException("Move rejected: " + response);
+				}
+			}
+
+			send(output, reader, "END " + gameId);
+			output.write("QUIT\n".getBytes(StandardCharsets.US_ASCII));
+			output.flush();
+		}
+		return latencyHistogram;
+	}
+
+	private static String send(OutputStream output, BufferedReader reader, String request) throws IOException {
+		output.write((request + "\n").getBytes(StandardCharsets.US_ASCII));
+		output.flush();
+		String response = reader.readLine();
+		if (response == null) {
+			throw new IOException("Connection closed by the server");
+		}
+		return response;
+	}
+
+	private static void printReport(long[] latencyHistogram, int durationInSeconds) {
+		long moves = 0;
+		for (long count : latencyHistogram) {
+			moves += count;
+		}
+		System.out.println("Moves: " + moves + ", " + moves / Math.max(durationInSeconds, 1) + " moves/s");
+		System.out.println("Latency p50: " + percentile(latencyHistogram, moves, 0.50) + " us, p99: "
+				+ percentile(latencyHistogram, moves, 0.99) + " us, p99.9: "
+				+ percentile(latencyHistogram, moves, 0.999) + " us");
+	}
+
+	private static int percentile(long[] latencyHistogram, long numberOfSamples, double fraction) {
+		long rank = (long) Math.ceil(numberOfSamples * fraction);
+		long counted = 0;
+		for (int bucket = 0; bucket < latencyHistogram.length; bucket++) {
+			counted += latencyHistogram[bucket];
+			if (counted >= rank && counted > 0) {
+				return bucket;
+			}
+		}
+		return latencyHistogram.length - 1;
+	}
+}
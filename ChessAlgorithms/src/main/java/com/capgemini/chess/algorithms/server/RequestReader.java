@@ -0,0 +1,90 @@
+package com.capgemini.chess.algorithms.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads request lines of one connection. While the connection is idle the
+ * reader waits for the first byte of the next line without any buffer, so
+ * that idle connections cost only their socket and thread. The small buffer
+ * is allocated when a line arrives and dropped once all received bytes are
+ * consumed.
+ *
+ */
+final class RequestReader {
+
+	static final int MAX_REQUEST_LENGTH = 256;
+
+	private static final int END_OF_STREAM = -1;
+
+	private final InputStream input;
+	private byte[] buffer;
+	private int position;
+	private int limit;
+
+	RequestReader(InputStream input) {
+		this.input = input;
+	}
+
+	/**
+	 * Reads next request line, terminated with a line feed or the end of the
+	 * stream.
+	 *
+	 * @return request line without the line feed or null at the end of the
+	 *         stream
+	 * @throws IOException
+	 *             in case the connection fails or the line is longer than
+	 *             MAX_REQUEST_LENGTH
+	 */
+	String readLine() throws IOException {
+		if (position == limit) {
+			int firstByte = input.read();
+			if (firstByte == END_OF_STREAM) {
+				return null;
+			}
+			buffer = new byte[MAX_REQUEST_LENGTH];
+			buffer[0] = (byte) firstByte;
+			position = 0;
+			limit = 1;
+		}
+
+		int lineEnd = indexOfLineFeed(position);
+		while (lineEnd < 0) {
+			if (limit == buffer.length) {
+				if (position == 0) {
+					throw new IOException("Request longer than " + MAX_REQUEST_LENGTH + " bytes");
+				}
+				System.arraycopy(buffer, position, buffer, 0, limit - position);
+				limit -= position;
+				position = 0;
+			}
+			int scanned = limit;
+			int read = input.read(buffer, limit, buffer.length - limit);
+			if (read == END_OF_STREAM) {
+				lineEnd = limit;
+				break;
+			}
+			limit += read;
+			lineEnd = indexOfLineFeed(scanned);
+		}
+
+		String line = new String(buffer, position, lineEnd - position, StandardCharsets.US_ASCII);
+		position = Math.min(lineEnd + 1, limit);
+		if (position == limit) {
+			buffer = null;
+			position = 0;
+			limit = 0;
+		}
+		return line;
+	}
+
+	private int indexOfLineFeed(int from) {
+		for (int i = from; i < limit; i++) {
+			if (buffer[i] == '\n') {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,96 @@
+package com.capgemini.chess.algorithms.session;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.generated.Position;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * One game kept by {@link GameSessionRegistry}. The board manager is used
+ * only while holding the lock of the session, so moves of the game are
+ * applied one at a time, while moves of other games never wait for it. The
+ * lock is fair, so moves submitted concurrently to one game are applied in
+ * the order they started waiting for it. The position and state after the
+ * last move are published together for readers, who do not take the lock.
+ *
+ */
+public final class GameSession {
+
+	private final String gameId;
+	private final BoardManager boardManager;
+	private final ReentrantLock lock = new ReentrantLock(true);
+	private volatile SessionSnapshot snapshot;
+	// guarded by the lock
+	private boolean ended;
+
+	GameSession(String gameId, BoardManager boardManager) {
+		this.gameId = gameId;
+		this.boardManager = boardManager;
+		publishPosition();
+	}
+
+	public String getGameId() {
+		return gameId;
+	}
+
+	/**
+	 * Gets position and state of the board after the last move of the game.
+	 *
+	 * @return snapshot of the game
+	 */
+	public SessionSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Gets position after the last move of the game. Use
+	 * {@link #getSnapshot()} to read it together with the state.
+	 *
+	 * @return position snapshot
+	 */
+	public Position getPosition() {
+		return snapshot.getPosition();
+	}
+
+	/**
+	 * Gets state of the board after the last move of the game. Use
+	 * {@link #getSnapshot()} to read it together with the position.
+	 *
+	 * @return board state
+	 */
+	public BoardState getState() {
+		return snapshot.getState();
+	}
+
+	BoardManager getBoardManager() {
+		return boardManager;
+	}
+
+	ReentrantLock getLock() {
+		return lock;
+	}
+
+	boolean isEnded() {
+		return ended;
+	}
+
+	void markEnded() {
+		ended = true;
+	}
+
+	/**
+	 * Publishes position and state of the board with the last move of the
+	 * history. Has to be called while holding the lock.
+	 *
+	 * @return published snapshot
+	 */
+	SessionSnapshot publishPosition() {
+		BoardState state = boardManager.updateBoardState();
+		MoveList moveHistory = boardManager.getBoard().getEncodedMoveHistory();
+		int lastMove = moveHistory.isEmpty() ? SessionSnapshot.NO_MOVE : moveHistory.getLast();
+		snapshot = new SessionSnapshot(boardManager.getBoard().snapshot(), state, lastMove);
+		return snapshot;
+	}
+}
@@ -0,0 +1,163 @@
+package com.capgemini.chess.algorithms.session;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.generated.Position;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Games played concurrently, keyed by game id. Every game has its own lock,
+ * so moves in different games never contend and moves within one game are
+ * applied one after another. The map of games is a concurrent hash map, so
+ * starting and ending games does not block moves either.
+ *
+ */
+public class GameSessionRegistry {
+
+	private final ConcurrentMap<String, GameSession> sessions = new ConcurrentHashMap<>();
+	private final LongAdder startedGames = new LongAdder();
+	private final LongAdder endedGames = new LongAdder();
+	private final LongAdder performedMoves = new LongAdder();
+	private final LongAdder rejectedMoves = new LongAdder();
+
+	/**
+	 * Starts new game from the initial position.
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @return session of the game
+	 * @throws IllegalArgumentException
+	 *             in case a game with the id is already played
+	 */
+	public GameSession startGame(String gameId) {
+		return addSession(new GameSession(gameId, new BoardManager()));
+	}
+
+	/**
+	 * Starts new game from the position.
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @param position
+	 *            position the game starts from
+	 * @return session of the game
+	 * @throws IllegalArgumentException
+	 *             in case a game with the id is already played
+	 */
+	public GameSession startGame(String gameId, Position position) {
+		return addSession(new GameSession(gameId, new BoardManager(position)));
+	}
+
+	/**
+	 * Validates and performs move in the game, then publishes the new position
+	 * and state of the board. The snapshot is taken while holding the lock of
+	 * the game, so later moves do not change what is returned. Moves are
+	 * rejected once the game is over by a mate or a stalemate.
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @param from
+	 *            coordinates of 'from' field
+	 * @param to
+	 *            coordinates of 'to' field
+	 * @return snapshot of the game after the move
+	 * @throws InvalidMoveException
+	 *             in case the move is not valid or the game is over
+	 * @throws IllegalArgumentException
+	 *             in case there is no game with the id, also when the game
+	 *             is ended while the move waits for its lock
+	 */
+	public SessionSnapshot performMove(String gameId, Coordinate from, Coordinate to) throws InvalidMoveException {
+		GameSession session = getSession(gameId);
+		session.getLock().lock();
+		try {
+			if (session.isEnded()) {
+				throw new IllegalArgumentException("There is no game with id " + gameId);
+			}
+			if (session.getSnapshot().isGameOver()) {
+				throw new InvalidMoveException("Game " + gameId + " is over with " + session.getState());
+			}
+			session.getBoardManager().performMove(from, to);
+			SessionSnapshot snapshot = session.publishPosition();
+			performedMoves.increment();
+			return snapshot;
+		} catch (InvalidMoveException e) {
+			rejectedMoves.increment();
+			throw e;
+		} finally {
+			session.getLock().unlock();
+		}
+	}
+
+	/**
+	 * Gets session of the game.
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @return session of the game
+	 * @throws IllegalArgumentException
+	 *             in case there is no game with the id
+	 */
+	public GameSession getSession(String gameId) {
+		GameSession session = sessions.get(gameId);
+		if (session == null) {
+			throw new IllegalArgumentException("There is no game with id " + gameId);
+		}
+		return session;
+	}
+
+	/**
+	 * Ends the game and removes its session. Moves waiting for the lock of the
+	 * session are rejected.
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @return true if the game was played
+	 */
+	public boolean endGame(String gameId) {
+		GameSession session = sessions.remove(gameId);
+		if (session == null) {
+			return false;
+		}
+		session.getLock().lock();
+		try {
+			session.markEnded();
+		} finally {
+			session.getLock().unlock();
+		}
+		endedGames.increment();
+		return true;
+	}
+
+	public int getLiveGameCount() {
+		return sessions.size();
+	}
+
+	public long getStartedGameCount() {
+		return startedGames.sum();
+	}
+
+	public long getEndedGameCount() {
+		return endedGames.sum();
+	}
+
+	public long getPerformedMoveCount() {
+		return performedMoves.sum();
+	}
+
+	public long getRejectedMoveCount() {
+		return rejectedMoves.sum();
+	}
+
+	private GameSession addSession(GameSession session) {
+		if (sessions.putIfAbsent(session.getGameId(), session) != null) {
+			throw new IllegalArgumentException("Game with id " + session.getGameId() + " is already played");
+		}
+		startedGames.increment();
+		return session;
+	}
+}
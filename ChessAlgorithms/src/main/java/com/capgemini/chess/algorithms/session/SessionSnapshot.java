@@ -0,0 +1,66 @@
+package com.capgemini.chess.algorithms.session;
+
+import com.capgemini.chess.algorithms.data.EncodedMove;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.generated.Position;
+
+/**
+ * Position of a game together with the state of the board in that position
+ * and the move which led to it. Published by {@link GameSession} as one
+ * immutable value, so readers never see a position with the state of another
+ * one. The move is kept encoded, as move objects are mutable.
+ *
+ */
+public final class SessionSnapshot {
+
+	// no move encodes to zero, as the move type is always set
+	public static final int NO_MOVE = 0;
+
+	private final Position position;
+	private final BoardState state;
+	private final int lastMove;
+
+	SessionSnapshot(Position position, BoardState state, int lastMove) {
+		this.position = position;
+		this.state = state;
+		this.lastMove = lastMove;
+	}
+
+	public Position getPosition() {
+		return position;
+	}
+
+	public BoardState getState() {
+		return state;
+	}
+
+	/**
+	 * Checks if the game is over - the player to move is mated or has no
+	 * legal move.
+	 *
+	 * @return true if no more moves can be made in the game
+	 */
+	public boolean isGameOver() {
+		return state == BoardState.CHECK_MATE || state == BoardState.STALE_MATE;
+	}
+
+	/**
+	 * Gets move which led to the position.
+	 *
+	 * @return encoded move or NO_MOVE if no move was performed in the session
+	 */
+	public int getEncodedLastMove() {
+		return lastMove;
+	}
+
+	/**
+	 * Gets move which led to the position as a new move object, so changes
+	 * made to it do not affect the snapshot.
+	 *
+	 * @return move object or null if no move was performed in the session
+	 */
+	public Move getLastMove() {
+		return lastMove == NO_MOVE ? null : EncodedMove.toMove(lastMove);
+	}
+}
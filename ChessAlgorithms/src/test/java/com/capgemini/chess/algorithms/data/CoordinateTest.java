@@ -0,0 +1,40 @@
+package com.capgemini.chess.algorithms.data;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Test class for shared instances of {@link Coordinate}
+ *
+ */
+public class CoordinateTest {
+
+	@Test
+	public void testCoordinatesOfBoardFieldsAreShared() {
+		for (int x = 0; x < Board.SIZE; x++) {
+			for (int y = 0; y < Board.SIZE; y++) {
+				// when
+				Coordinate coordinate = Coordinate.of(x, y);
+
+				// then
+				assertSame(coordinate, Coordinate.of(x, y));
+				assertSame(coordinate, Coordinate.of(coordinate.getSquare()));
+				assertEquals(x, coordinate.getX());
+				assertEquals(y, coordinate.getY());
+			}
+		}
+	}
+
+	@Test
+	public void testCoordinatesOutOfBoardAreCreated() {
+		// when
+		Coordinate coordinate = Coordinate.of(Board.SIZE, -1);
+
+		// then
+		assertNotSame(coordinate, Coordinate.of(Board.SIZE, -1));
+		assertEquals(coordinate, Coordinate.of(Board.SIZE, -1));
+	}
+}
@@ -0,0 +1,97 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+
+/**
+ * Test class for attacks looked up in {@link AttackTables}
+ *
+ */
+public class AttackTablesTest {
+
+	@Test
+	public void testIsSquareAttackedStopsAtBlockingPiece() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.BLACK_QUEEN, new Coordinate(0, 0));
+		board.setPieceAt(Piece.WHITE_PAWN, new Coordinate(3, 3));
+		board.setPieceAt(Piece.BLACK_KNIGHT, new Coordinate(6, 0));
+
+		// when
+		boolean blockedDiagonalSquareAttacked = board.isSquareAttacked(36, Color.BLACK);
+		boolean blockingPawnAttacked = board.isSquareAttacked(27, Color.BLACK);
+		boolean squareAttackedByKnight = board.isSquareAttacked(21, Color.BLACK);
+		boolean squareAttackedByPawn = board.isSquareAttacked(36, Color.WHITE);
+
+		// then
+		assertFalse(blockedDiagonalSquareAttacked);
+		assertTrue(blockingPawnAttacked);
+		assertTrue(squareAttackedByKnight);
+		assertTrue(squareAttackedByPawn);
+	}
+
+	@Test
+	public void testSlidingAttacksStopAtFirstOccupiedSquare() {
+		// given
+		int square = 27;
+		long occupancy = (1L << 29) | (1L << 11) | (1L << 45) | (1L << 18) | (1L << 63);
+
+		// when
+		long rookAttacks = AttackTables.rookAttacks(square, occupancy);
+		long bishopAttacks = AttackTables.bishopAttacks(square, occupancy);
+
+		// then
+		assertEquals((1L << 28) | (1L << 29) | (1L << 26) | (1L << 25) | (1L << 24) | (1L << 35) | (1L << 43)
+				| (1L << 51) | (1L << 59) | (1L << 19) | (1L << 11), rookAttacks);
+		assertEquals((1L << 36) | (1L << 45) | (1L << 18) | (1L << 34) | (1L << 41) | (1L << 48) | (1L << 20)
+				| (1L << 13) | (1L << 6), bishopAttacks);
+	}
+
+	@Test
+	public void testMagicLookupsMatchRaysWalkedSquareBySquare() {
+		// given
+		Random random = new Random(42);
+		int[][] rookDirections = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+		int[][] bishopDirections = { { 1, 1 }, { 1, -1 }, { -1, 1 }, { -1, -1 } };
+
+		for (int square = 0; square < Board.NUMBER_OF_SQUARES; square++) {
+			for (int i = 0; i < 100; i++) {
+				// sparse and dense occupancies
+				long occupancy = i % 2 == 0 ? random.nextLong() & random.nextLong() : random.nextLong();
+
+				// when
+				long rookAttacks = AttackTables.rookAttacks(square, occupancy);
+				long bishopAttacks = AttackTables.bishopAttacks(square, occupancy);
+
+				// then
+				assertEquals(walkRays(square, occupancy, rookDirections), rookAttacks);
+				assertEquals(walkRays(square, occupancy, bishopDirections), bishopAttacks);
+			}
+		}
+	}
+
+	private static long walkRays(int square, long occupancy, int[][] directions) {
+		long attacks = 0;
+		for (int[] direction : directions) {
+			int x = square % Board.SIZE + direction[0];
+			int y = square / Board.SIZE + direction[1];
+			while (x >= 0 && x < Board.SIZE && y >= 0 && y < Board.SIZE) {
+				long attackedSquare = 1L << (y * Board.SIZE + x);
+				attacks |= attackedSquare;
+				if ((occupancy & attackedSquare) != 0) {
+					break;
+				}
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+		return attacks;
+	}
+}
@@ -0,0 +1,150 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.EncodedMove;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Test class for bitboards, move history and Zobrist keys of {@link Board}
+ *
+ */
+public class BoardTest {
+
+	@Test
+	public void testGenerateBoardInitialPositionOccupancy() {
+		// given
+		List<Move> moves = new ArrayList<>();
+
+		// when
+		BoardManager boardManager = new BoardManager(moves);
+
+		// then
+		assertEquals(0x000000000000FFFFL, boardManager.getBoard().getOccupancy(Color.WHITE));
+		assertEquals(0xFFFF000000000000L, boardManager.getBoard().getOccupancy(Color.BLACK));
+		assertEquals(1L << 4, boardManager.getBoard().getPieceBitboard(Piece.WHITE_KING));
+		assertEquals(0x00FF000000000000L, boardManager.getBoard().getPieceBitboard(Piece.BLACK_PAWN));
+		assertEquals(Piece.BLACK_QUEEN, boardManager.getBoard().getPieceAt(new Coordinate(3, 7)));
+	}
+
+	@Test
+	public void testGenerateBoardTracksKingSquares() {
+		// given
+		List<Move> moves = new ArrayList<>();
+		Move move = new Move();
+		move.setFrom(new Coordinate(4, 0));
+		move.setTo(new Coordinate(4, 2));
+		move.setType(MoveType.ATTACK);
+		moves.add(move);
+
+		// when
+		BoardManager boardManager = new BoardManager(moves);
+
+		// then
+		assertEquals(20, boardManager.getBoard().getKingSquare(Color.WHITE));
+		assertEquals(60, boardManager.getBoard().getKingSquare(Color.BLACK));
+		assertEquals(16, boardManager.getBoard().getNumberOfPieces(Color.WHITE));
+	}
+
+	@Test
+	public void testGenerateBoardEncodedMoveHistory() {
+		// given
+		List<Move> moves = new ArrayList<>();
+		Move move = new Move();
+		move.setFrom(new Coordinate(0, 0));
+		move.setTo(new Coordinate(0, 6));
+		move.setType(MoveType.CAPTURE);
+		moves.add(move);
+
+		// when
+		BoardManager boardManager = new BoardManager(moves);
+
+		// then
+		int encodedMove = boardManager.getBoard().getEncodedMoveHistory().getLast();
+		assertEquals(1, boardManager.getBoard().getMoveHistory().size());
+		assertEquals(0, EncodedMove.getFrom(encodedMove));
+		assertEquals(48, EncodedMove.getTo(encodedMove));
+		assertEquals(MoveType.CAPTURE, EncodedMove.getType(encodedMove));
+		assertEquals(Piece.WHITE_ROOK, EncodedMove.getMovedPiece(encodedMove));
+		assertEquals(Piece.BLACK_PAWN, EncodedMove.getCapturedPiece(encodedMove));
+		assertNull(EncodedMove.getPromotionPiece(encodedMove));
+		assertEquals(new Coordinate(0, 6), boardManager.getBoard().getMoveHistory().get(0).getTo());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testEncodedMoveHistoryIsReadOnly() {
+		// given
+		Board board = new Board();
+
+		// when
+		board.getEncodedMoveHistory().add(EncodedMove.encode(12, 28, MoveType.ATTACK, Piece.WHITE_PAWN, null, null));
+	}
+
+	@Test
+	public void testZobristKeyEqualForTransposedMoves() throws InvalidMoveException {
+		// given
+		BoardManager firstBoardManager = new BoardManager();
+		BoardManager secondBoardManager = new BoardManager();
+		long initialKey = firstBoardManager.getBoard().getZobristKey();
+
+		// when
+		firstBoardManager.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+		long keyAfterOneMove = firstBoardManager.getBoard().getZobristKey();
+		firstBoardManager.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+		firstBoardManager.performMove(new Coordinate(1, 0), new Coordinate(2, 2));
+
+		secondBoardManager.performMove(new Coordinate(1, 0), new Coordinate(2, 2));
+		secondBoardManager.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+		secondBoardManager.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+
+		// then
+		assertEquals(firstBoardManager.getBoard().getZobristKey(), secondBoardManager.getBoard().getZobristKey());
+		assertNotEquals(initialKey, keyAfterOneMove);
+		assertNotEquals(initialKey, firstBoardManager.getBoard().getZobristKey());
+	}
+
+	@Test
+	public void testZobristKeyDependsOnCastlingRights() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		long keyWithoutCastlingRights = board.getZobristKey();
+
+		// when
+		board.setCastlingRights(Board.ALL_CASTLING_RIGHTS);
+		long keyWithCastlingRights = board.getZobristKey();
+		board.setCastlingRights(0);
+
+		// then
+		assertNotEquals(keyWithCastlingRights, keyWithoutCastlingRights);
+		assertEquals(keyWithoutCastlingRights, board.getZobristKey());
+	}
+
+	@Test
+	public void testCustomBoardStartsWithoutCastlingRights() {
+		// given
+		Board customBoard = new Board();
+		Board positionBoard = Board.fromFen("4k3/8/8/8/8/8/8/4K3 w - - 0 1");
+
+		// when
+		customBoard.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		customBoard.setPieceAt(Piece.BLACK_KING, new Coordinate(4, 7));
+
+		// then
+		assertEquals(0, customBoard.getCastlingRights());
+		assertEquals(positionBoard.getZobristKey(), customBoard.getZobristKey());
+		assertEquals("4k3/8/8/8/8/8/8/4K3 w - - 0 1", customBoard.toFen());
+		assertEquals(Board.ALL_CASTLING_RIGHTS, new BoardManager().getBoard().getCastlingRights());
+	}
+}
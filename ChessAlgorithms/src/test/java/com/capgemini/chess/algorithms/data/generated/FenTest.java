@@ -0,0 +1,85 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Test class for reading and writing {@link Board} in Forsyth-Edwards Notation
+ *
+ */
+public class FenTest {
+
+	@Test
+	public void testFenRoundTrip() {
+		// given
+		String[] positions = { "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+				"rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1",
+				"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w Kq - 12 37",
+				"8/8/8/8/8/8/8/k6K b - - 99 120" };
+
+		for (String position : positions) {
+			// when
+			Board board = Board.fromFen(position);
+
+			// then
+			assertEquals(position, board.toFen());
+		}
+	}
+
+	@Test
+	public void testFromFenBlackToMove() throws InvalidMoveException {
+		// given
+		Board board = Board.fromFen("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1");
+		BoardManager boardManager = new BoardManager(board);
+		BoardManager replayedBoardManager = new BoardManager();
+		replayedBoardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		replayedBoardManager.performMove(new Coordinate(4, 6), new Coordinate(4, 4));
+
+		// when
+		MoveList legalMoves = boardManager.generateLegalMoves();
+		boardManager.performMove(new Coordinate(4, 6), new Coordinate(4, 4));
+
+		// then
+		assertEquals(20, legalMoves.size());
+		assertEquals(Color.WHITE, board.getSideToMove());
+		assertEquals(replayedBoardManager.getBoard().getZobristKey(), board.getZobristKey());
+		assertEquals("rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w KQkq e6 0 2", board.toFen());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFromFenInvalidPiecePlacement() {
+		// when
+		Board.fromFen("rnbqkbnr/pppppppp/9/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFromFenInvalidEnPassantSquareOnWrongRank() {
+		// when
+		Board.fromFen("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq c3 0 1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFromFenInvalidEnPassantSquareWithoutPassedPawn() {
+		// when
+		Board.fromFen("rnbqkbnr/pppp1ppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR w KQkq e6 0 2");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFromFenInvalidRepeatedCastlingRights() {
+		// when
+		Board.fromFen("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KKKK - 0 1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFromFenInvalidZeroFullmoveNumber() {
+		// when
+		Board.fromFen("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 0");
+	}
+}
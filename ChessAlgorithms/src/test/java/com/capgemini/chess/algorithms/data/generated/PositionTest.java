@@ -0,0 +1,58 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Test class for immutable {@link Position} snapshots of the board
+ *
+ */
+public class PositionTest {
+
+	@Test
+	public void testSnapshotIsNotChangedByLaterMoves() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		Position position = boardManager.getBoard().snapshot();
+		long keyOfThePosition = boardManager.getBoard().getZobristKey();
+
+		// when
+		boardManager.performMove(new Coordinate(4, 6), new Coordinate(4, 4));
+
+		// then
+		assertEquals(Piece.BLACK_PAWN, position.getPieceAt(new Coordinate(4, 6)));
+		assertNull(position.getPieceAt(new Coordinate(4, 4)));
+		assertEquals(Color.BLACK, position.getSideToMove());
+		assertEquals(20, position.getEnPassantSquare());
+		assertEquals(keyOfThePosition, position.getZobristKey());
+	}
+
+	@Test
+	public void testBoardManagerContinuesGameFromSnapshot() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		Position position = boardManager.getBoard().snapshot();
+
+		// when
+		BoardManager snapshotBoardManager = new BoardManager(position);
+		Move move = snapshotBoardManager.performMove(new Coordinate(4, 6), new Coordinate(4, 4));
+		boardManager.performMove(new Coordinate(4, 6), new Coordinate(4, 4));
+
+		// then
+		assertEquals(Piece.BLACK_PAWN, move.getMovedPiece());
+		assertEquals(position, new Board(position).snapshot());
+		assertEquals(boardManager.getBoard().getZobristKey(), snapshotBoardManager.getBoard().getZobristKey());
+		assertEquals(Color.WHITE, snapshotBoardManager.getBoard().getSideToMove());
+		assertEquals(1, snapshotBoardManager.getBoard().getMoveHistory().size());
+	}
+}
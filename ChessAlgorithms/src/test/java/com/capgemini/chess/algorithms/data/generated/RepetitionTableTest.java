@@ -0,0 +1,74 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test class for counting position keys in {@link RepetitionTable}
+ *
+ */
+public class RepetitionTableTest {
+
+	@Test
+	public void testDecrementToZeroFreesSlotsOfCollidingKeys() {
+		// given
+		RepetitionTable table = new RepetitionTable();
+		Map<Long, Integer> expectedCounts = new HashMap<>();
+		Random random = new Random(42);
+		// multiples of 64 share the home slot, so probe sequences overlap
+		long[] keys = new long[40];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = i % 2 == 0 ? i * 64L : random.nextLong();
+		}
+
+		// when
+		for (int step = 0; step < 10000; step++) {
+			long key = keys[random.nextInt(keys.length)];
+			int count = expectedCounts.getOrDefault(key, 0);
+			if (count > 0 && random.nextBoolean()) {
+				table.decrement(key);
+				expectedCounts.put(key, count - 1);
+			} else {
+				table.increment(key);
+				expectedCounts.put(key, count + 1);
+			}
+		}
+
+		// then
+		for (long key : keys) {
+			assertEquals(expectedCounts.getOrDefault(key, 0).intValue(), table.count(key));
+		}
+		for (Map.Entry<Long, Integer> entry : expectedCounts.entrySet()) {
+			for (int i = 0; i < entry.getValue(); i++) {
+				table.decrement(entry.getKey());
+			}
+		}
+		assertEquals(0, table.size());
+		for (long key : keys) {
+			assertEquals(0, table.count(key));
+		}
+	}
+
+	@Test
+	public void testClearRemovesAllKeys() {
+		// given
+		RepetitionTable table = new RepetitionTable();
+		for (long key = 0; key < 100; key++) {
+			table.increment(key * 64);
+		}
+
+		// when
+		table.clear();
+		table.increment(64);
+
+		// then
+		assertEquals(1, table.size());
+		assertEquals(1, table.count(64));
+		assertEquals(0, table.count(128));
+	}
+}
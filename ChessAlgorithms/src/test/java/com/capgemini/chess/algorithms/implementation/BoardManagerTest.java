@@ -3,16 +3,21 @@ package com.capgemini.chess.algorithms.implementation;
 import static org.junit.Assert.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Test;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.EncodedMove;
 import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.MoveValidator;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 import com.capgemini.chess.algorithms.implementation.exceptions.KingInCheckException;
@@ -263,6 +268,7 @@ public class BoardManagerTest {
 		Board board = new Board();
 		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
 		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(7, 0));
+		board.setCastlingRights(Board.WHITE_KINGSIDE_CASTLING);
 		
 		// when
 		BoardManager boardManager = new BoardManager(board);
@@ -711,8 +717,98 @@ public class BoardManagerTest {
 		// then
 		assertEquals(BoardState.STALE_MATE, boardState);
 	}
+
+	@Test
+	public void testUpdateBoardStateIsKeptUntilThePositionChanges() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		Board board = boardManager.getBoard();
+		boardManager.updateBoardState();
+
+		// when
+		BoardState stateBeforeMove = board.getState();
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		BoardState stateAfterMove = board.getState();
+
+		// then
+		assertEquals(BoardState.REGULAR, stateBeforeMove);
+		assertNull(stateAfterMove);
+		assertEquals(BoardState.REGULAR, boardManager.updateBoardState());
+	}
+
+	
+	
+	@Test
+	public void testPerformMoveCanPlayEveryGeneratedPromotion() throws InvalidMoveException {
+		// given
+		String fen = "r3k3/1P6/8/8/8/8/8/4K3 w - - 0 1";
+		MoveList legalMoves = new BoardManager(Board.fromFen(fen)).generateLegalMoves();
+		int promotions = 0;
+		
+		for (int i = 0; i < legalMoves.size(); i++) {
+			int move = legalMoves.get(i);
+			Piece promotionPiece = EncodedMove.getPromotionPiece(move);
+			BoardManager generatedMoveManager = new BoardManager(Board.fromFen(fen));
+			BoardManager performedMoveManager = new BoardManager(Board.fromFen(fen));
+			
+			// when
+			generatedMoveManager.makeMove(move);
+			performedMoveManager.performMove(Coordinate.of(EncodedMove.getFrom(move)),
+					Coordinate.of(EncodedMove.getTo(move)),
+					promotionPiece != null ? promotionPiece.getType() : PieceType.QUEEN);
+			
+			// then
+			assertEquals(generatedMoveManager.getBoard().toFen(), performedMoveManager.getBoard().toFen());
+			if (promotionPiece != null) {
+				promotions++;
+			}
+		}
+		assertEquals(8, promotions);
+	}
 	
+	@Test
+	public void testPerformMovePromotionToKingNotAllowed() {
+		// given
+		BoardManager boardManager = new BoardManager(Board.fromFen("r3k3/1P6/8/8/8/8/8/4K3 w - - 0 1"));
+		boolean exceptionThrown = false;
+		
+		// when
+		try {
+			boardManager.performMove(new Coordinate(1, 6), new Coordinate(1, 7), PieceType.KING);
+		} catch (InvalidMoveException e) {
+			exceptionThrown = true;
+		}
+		
+		// then
+		assertTrue(exceptionThrown);
+		assertEquals(0, boardManager.getBoard().getMoveHistory().size());
+	}
 	
+	@Test
+	public void testMovesOfEveryPieceGeneratedByItsMovingRules() {
+		for (Piece piece : Piece.values()) {
+			// given
+			boolean white = piece.getColor() == Color.WHITE;
+			Board board = Board.fromFen(white ? "k7/8/8/8/8/8/8/7K w - - 0 1" : "k7/8/8/8/8/8/8/7K b - - 0 1");
+			Coordinate from;
+			if (piece.getType() == PieceType.KING) {
+				from = Coordinate.of(board.getKingSquare(piece.getColor()));
+			} else {
+				// pawns on their initial rank, so that they may move two steps
+				from = piece.getType() == PieceType.PAWN ? Coordinate.of(3, white ? 1 : 6) : Coordinate.of(3, 3);
+				board.setPieceAt(piece, from);
+			}
+			MoveList expectedMoves = new MoveList();
+			createMoveValidator(piece).generateMoves(board, from.getSquare(), expectedMoves);
+			
+			// when
+			MoveList legalMoves = new BoardManager(board).generateLegalMoves(from);
+			
+			// then
+			assertFalse(piece.toString(), legalMoves.isEmpty());
+			assertArrayEquals(piece.toString(), sorted(expectedMoves), sorted(legalMoves));
+		}
+	}
 	
 	@Test
 	public void testCheckThreefoldRepetitionRuleSuccessful() {
@@ -720,26 +816,26 @@ public class BoardManagerTest {
 		List<Move> moves = new ArrayList<>();
 		for (int i = 0; i < 2; i++) {
 			Move move1 = new Move();
-			move1.setFrom(new Coordinate(5, 1));
-			move1.setTo(new Coordinate(5, 3));
+			move1.setFrom(new Coordinate(6, 0));
+			move1.setTo(new Coordinate(5, 2));
 			move1.setType(MoveType.ATTACK);
 			moves.add(move1);
 			
 			Move move2 = new Move();
-			move2.setFrom(new Coordinate(5, 6));
-			move2.setTo(new Coordinate(5, 4));
+			move2.setFrom(new Coordinate(6, 7));
+			move2.setTo(new Coordinate(5, 5));
 			move2.setType(MoveType.ATTACK);
 			moves.add(move2);
 			
 			Move move3 = new Move();
-			move3.setFrom(new Coordinate(5, 3));
-			move3.setTo(new Coordinate(5, 1));
+			move3.setFrom(new Coordinate(5, 2));
+			move3.setTo(new Coordinate(6, 0));
 			move3.setType(MoveType.ATTACK);
 			moves.add(move3);
 			
 			Move move4 = new Move();
-			move4.setFrom(new Coordinate(5, 4));
-			move4.setTo(new Coordinate(5, 6));
+			move4.setFrom(new Coordinate(5, 5));
+			move4.setTo(new Coordinate(6, 7));
 			move4.setType(MoveType.ATTACK);
 			moves.add(move4);
 		}
@@ -788,6 +884,189 @@ public class BoardManagerTest {
 		assertFalse(isThreefoldRepetition);
 	}
 	
+	@Test
+	public void testPawnMoveClearsRepetitionsUntilTakenBack() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		for (int i = 0; i < 2; i++) {
+			boardManager.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+			boardManager.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+			boardManager.performMove(new Coordinate(5, 2), new Coordinate(6, 0));
+			boardManager.performMove(new Coordinate(5, 5), new Coordinate(6, 7));
+		}
+		int repetitionsBeforePawnMove = boardManager.getBoard().getRepetitionCount();
+		
+		// when
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		boardManager.performMove(new Coordinate(4, 6), new Coordinate(4, 4));
+		boardManager.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+		int repetitionsAfterPawnMoves = boardManager.getBoard().getRepetitionCount();
+		for (int i = 0; i < 3; i++) {
+			boardManager.unmakeMove();
+		}
+		
+		// then
+		assertEquals(3, repetitionsBeforePawnMove);
+		assertEquals(1, repetitionsAfterPawnMoves);
+		assertEquals(3, boardManager.getBoard().getRepetitionCount());
+		assertTrue(boardManager.checkThreefoldRepetitionRule());
+	}
+	
+	@Test
+	public void testUnmakeMoveRestoresBoardAfterCaptures() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		Piece[][] initialPieces = boardManager.getBoard().getPieces();
+		long initialKey = boardManager.getBoard().getZobristKey();
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		boardManager.performMove(new Coordinate(3, 6), new Coordinate(3, 4));
+		boardManager.performMove(new Coordinate(4, 3), new Coordinate(3, 4));
+		boardManager.performMove(new Coordinate(4, 6), new Coordinate(4, 4));
+		Move enPassant = boardManager.performMove(new Coordinate(3, 4), new Coordinate(4, 5));
+		
+		// when
+		for (int i = 0; i < 5; i++) {
+			boardManager.unmakeMove();
+		}
+		
+		// then
+		assertEquals(MoveType.EN_PASSANT, enPassant.getType());
+		assertArrayEquals(initialPieces, boardManager.getBoard().getPieces());
+		assertEquals(initialKey, boardManager.getBoard().getZobristKey());
+		assertEquals(0, boardManager.getBoard().getMoveHistory().size());
+		assertEquals(Board.NO_SQUARE, boardManager.getBoard().getEnPassantSquare());
+		assertEquals(1, boardManager.getBoard().getRepetitionCount());
+	}
+	
+	@Test
+	public void testUnmakeMoveRestoresCastlingAndPromotion() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(7, 0));
+		board.setPieceAt(Piece.BLACK_KING, new Coordinate(4, 7));
+		board.setPieceAt(Piece.BLACK_PAWN, new Coordinate(0, 1));
+		board.setCastlingRights(Board.ALL_CASTLING_RIGHTS);
+		BoardManager boardManager = new BoardManager(board);
+		long initialKey = board.getZobristKey();
+		
+		Move castling = new Move();
+		castling.setFrom(new Coordinate(4, 0));
+		castling.setTo(new Coordinate(6, 0));
+		castling.setType(MoveType.CASTLING);
+		Move promotion = new Move();
+		promotion.setFrom(new Coordinate(0, 1));
+		promotion.setTo(new Coordinate(0, 0));
+		promotion.setType(MoveType.ATTACK);
+		
+		// when
+		boardManager.makeMove(castling);
+		boardManager.makeMove(promotion);
+		Piece rookAfterCastling = board.getPieceAt(new Coordinate(5, 0));
+		Piece pieceAfterPromotion = board.getPieceAt(new Coordinate(0, 0));
+		int castlingRightsAfterCastling = board.getCastlingRights();
+		boardManager.unmakeMove();
+		boardManager.unmakeMove();
+		
+		// then
+		assertEquals(Piece.WHITE_ROOK, rookAfterCastling);
+		assertEquals(Piece.BLACK_QUEEN, pieceAfterPromotion);
+		assertEquals(Board.BLACK_KINGSIDE_CASTLING | Board.BLACK_QUEENSIDE_CASTLING, castlingRightsAfterCastling);
+		assertEquals(Piece.WHITE_KING, board.getPieceAt(new Coordinate(4, 0)));
+		assertEquals(Piece.WHITE_ROOK, board.getPieceAt(new Coordinate(7, 0)));
+		assertNull(board.getPieceAt(new Coordinate(5, 0)));
+		assertEquals(Piece.BLACK_PAWN, board.getPieceAt(new Coordinate(0, 1)));
+		assertNull(board.getPieceAt(new Coordinate(0, 0)));
+		assertEquals(Board.ALL_CASTLING_RIGHTS, board.getCastlingRights());
+		assertEquals(initialKey, board.getZobristKey());
+	}
+	
+	@Test
+	public void testGenerateLegalMovesInitialPosition() {
+		// given
+		BoardManager boardManager = new BoardManager();
+		
+		// when
+		MoveList legalMoves = boardManager.generateLegalMoves();
+		MoveList knightMoves = boardManager.generateLegalMoves(new Coordinate(1, 0));
+		MoveList opponentsKnightMoves = boardManager.generateLegalMoves(new Coordinate(1, 7));
+		
+		// then
+		assertEquals(20, legalMoves.size());
+		assertEquals(2, knightMoves.size());
+		assertEquals(0, opponentsKnightMoves.size());
+	}
+	
+	@Test
+	public void testGenerateLegalMovesPinnedPieceAndPromotion() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(4, 1));
+		board.setPieceAt(Piece.WHITE_PAWN, new Coordinate(0, 6));
+		board.setPieceAt(Piece.BLACK_ROOK, new Coordinate(4, 7));
+		board.setPieceAt(Piece.BLACK_KING, new Coordinate(7, 7));
+		BoardManager boardManager = new BoardManager(board);
+		
+		// when
+		MoveList rookMoves = boardManager.generateLegalMoves(new Coordinate(4, 1));
+		MoveList pawnMoves = boardManager.generateLegalMoves(new Coordinate(0, 6));
+		
+		// then
+		assertEquals(6, rookMoves.size());
+		for (int i = 0; i < rookMoves.size(); i++) {
+			assertEquals(4, EncodedMove.getTo(rookMoves.get(i)) % Board.SIZE);
+		}
+		assertEquals(4, pawnMoves.size());
+		assertEquals(Piece.WHITE_KNIGHT, EncodedMove.getPromotionPiece(pawnMoves.get(3)));
+	}
+	
+	@Test
+	public void testGenerateLegalMovesInCheck() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(0, 3));
+		board.setPieceAt(Piece.BLACK_ROOK, new Coordinate(4, 7));
+		board.setPieceAt(Piece.BLACK_KING, new Coordinate(7, 7));
+		BoardManager boardManager = new BoardManager(board);
+		
+		// when
+		MoveList legalMoves = boardManager.generateLegalMoves();
+		MoveList rookMoves = boardManager.generateLegalMoves(new Coordinate(0, 3));
+		
+		// then
+		assertEquals(5, legalMoves.size());
+		assertEquals(1, rookMoves.size());
+		assertEquals(28, EncodedMove.getTo(rookMoves.get(0)));
+	}
+
+	@Test
+	public void testGenerateLegalMovesCastlingThroughAttackedSquare() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.WHITE_KING, new Coordinate(4, 0));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(0, 0));
+		board.setPieceAt(Piece.WHITE_ROOK, new Coordinate(7, 0));
+		board.setPieceAt(Piece.BLACK_ROOK, new Coordinate(3, 7));
+		board.setPieceAt(Piece.BLACK_KING, new Coordinate(7, 7));
+		board.setCastlingRights(Board.WHITE_KINGSIDE_CASTLING | Board.WHITE_QUEENSIDE_CASTLING);
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		MoveList kingMoves = boardManager.generateLegalMoves(new Coordinate(4, 0));
+
+		// then
+		int castlingMoves = 0;
+		for (int i = 0; i < kingMoves.size(); i++) {
+			if (EncodedMove.getType(kingMoves.get(i)) == MoveType.CASTLING) {
+				castlingMoves++;
+				assertEquals(6, EncodedMove.getTo(kingMoves.get(i)));
+			}
+		}
+		assertEquals(1, castlingMoves);
+	}
+
 	@Test
 	public void testCheckFiftyMoveRuleSuccessful() {
 		// given
@@ -845,6 +1124,29 @@ public class BoardManagerTest {
 		assertFalse(areFiftyMoves);
 	}
 	
+	@Test
+	public void testCheckFiftyMoveRuleUnsuccessfulPieceCaptured() {
+		// given
+		Board board = new Board();
+		BoardManager boardManager = new BoardManager(board);
+		for (int i = 0; i < 60; i++) {
+			board.getMoveHistory().add(createDummyMove(board));
+		}
+		Move move = createDummyMove(board);
+		move.setType(MoveType.CAPTURE);
+		board.getMoveHistory().add(move);
+		for (int i = 0; i < 60; i++) {
+			board.getMoveHistory().add(createDummyMove(board));
+		}
+			
+		// when
+		boolean areFiftyMoves = boardManager.checkFiftyMoveRule();
+		
+		// then
+		assertFalse(areFiftyMoves);
+		assertEquals(60, board.getHalfmoveClock());
+	}
+	
 	private Move createDummyMove(Board board) {
 		
 		Move move = new Move();
@@ -875,4 +1177,30 @@ public class BoardManagerTest {
 		}
 		return counter;
 	}
+
+	private static MoveValidator createMoveValidator(Piece piece) {
+		switch (piece.getType()) {
+		case KING:
+			return new KingMoveValidator();
+		case QUEEN:
+			return new QueenMoveValidator();
+		case BISHOP:
+			return new BishopMoveValidator();
+		case KNIGHT:
+			return new KnightMoveValidator();
+		case ROOK:
+			return new RookMoveValidator();
+		default:
+			return piece.getColor() == Color.WHITE ? new WhitePawnMoveValidator() : new BlackPawnMoveValidator();
+		}
+	}
+
+	private static int[] sorted(MoveList moves) {
+		int[] sortedMoves = new int[moves.size()];
+		for (int i = 0; i < sortedMoves.length; i++) {
+			sortedMoves[i] = moves.get(i);
+		}
+		Arrays.sort(sortedMoves);
+		return sortedMoves;
+	}
 }
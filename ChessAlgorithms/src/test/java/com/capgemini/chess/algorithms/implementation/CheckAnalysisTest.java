@@ -0,0 +1,89 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Test class for check and pin masks of {@link CheckAnalysis}
+ *
+ */
+public class CheckAnalysisTest {
+
+	@Test
+	public void testPinnedPieceMovesOnlyAlongPinRay() {
+		// given
+		Board board = Board.fromFen("4k3/8/8/8/7q/8/5B2/4K3 w - - 0 1");
+		CheckAnalysis checkAnalysis = new CheckAnalysis();
+
+		// when
+		checkAnalysis.analyze(board, Color.WHITE);
+
+		// then
+		assertFalse(checkAnalysis.isKingInCheck());
+		assertTrue(checkAnalysis.isMoveOfNonKingPieceLegal(13, 22));
+		assertTrue(checkAnalysis.isMoveOfNonKingPieceLegal(13, 31));
+		assertFalse(checkAnalysis.isMoveOfNonKingPieceLegal(13, 20));
+	}
+
+	@Test
+	public void testPieceBehindAnotherPieceNotPinned() {
+		// given
+		Board board = Board.fromFen("4k3/4r3/8/8/8/4P3/4N3/4K3 w - - 0 1");
+		CheckAnalysis checkAnalysis = new CheckAnalysis();
+
+		// when
+		checkAnalysis.analyze(board, Color.WHITE);
+
+		// then
+		assertTrue(checkAnalysis.isMoveOfNonKingPieceLegal(12, 18));
+		assertTrue(checkAnalysis.isMoveOfNonKingPieceLegal(20, 28));
+	}
+
+	@Test
+	public void testPinnedKnightCannotMove() {
+		// given
+		Board board = Board.fromFen("4k3/4r3/8/8/8/8/4N3/4K3 w - - 0 1");
+		CheckAnalysis checkAnalysis = new CheckAnalysis();
+
+		// when
+		checkAnalysis.analyze(board, Color.WHITE);
+
+		// then
+		assertFalse(checkAnalysis.isMoveOfNonKingPieceLegal(12, 18));
+		assertFalse(checkAnalysis.isMoveOfNonKingPieceLegal(12, 27));
+	}
+
+	@Test
+	public void testSingleCheckAllowsOnlyBlockingOrCapturing() {
+		// given
+		Board board = Board.fromFen("4k3/4r3/8/8/R7/8/8/4K3 w - - 0 1");
+		CheckAnalysis checkAnalysis = new CheckAnalysis();
+
+		// when
+		checkAnalysis.analyze(board, Color.WHITE);
+
+		// then
+		assertTrue(checkAnalysis.isKingInCheck());
+		assertTrue(checkAnalysis.isMoveOfNonKingPieceLegal(24, 28));
+		assertFalse(checkAnalysis.isMoveOfNonKingPieceLegal(24, 25));
+	}
+
+	@Test
+	public void testDoubleCheckAllowsNoMoveOfOtherPieces() {
+		// given
+		Board board = Board.fromFen("4k3/4r3/8/8/1b6/8/R7/4K3 w - - 0 1");
+		CheckAnalysis checkAnalysis = new CheckAnalysis();
+
+		// when
+		checkAnalysis.analyze(board, Color.WHITE);
+
+		// then
+		assertTrue(checkAnalysis.isKingInCheck());
+		assertFalse(checkAnalysis.isMoveOfNonKingPieceLegal(8, 12));
+		assertFalse(checkAnalysis.isMoveOfNonKingPieceLegal(8, 11));
+	}
+}
@@ -4,6 +4,18 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
+import com.capgemini.chess.algorithms.data.CoordinateTest;
+import com.capgemini.chess.algorithms.data.generated.AttackTablesTest;
+import com.capgemini.chess.algorithms.data.generated.BoardTest;
+import com.capgemini.chess.algorithms.data.generated.FenTest;
+import com.capgemini.chess.algorithms.data.generated.PositionTest;
+import com.capgemini.chess.algorithms.data.generated.RepetitionTableTest;
+import com.capgemini.chess.algorithms.perft.PerftTest;
+import com.capgemini.chess.algorithms.pgn.PgnReaderTest;
+import com.capgemini.chess.algorithms.server.GameServerTest;
+import com.capgemini.chess.algorithms.server.RequestReaderTest;
+import com.capgemini.chess.algorithms.session.GameSessionRegistryTest;
+
 /**
  * Test suite containing all tests
  *
@@ -11,7 +23,10 @@ import org.junit.runners.Suite.SuiteClasses;
  *
  */
 @RunWith(Suite.class)
-@SuiteClasses({ BoardManagerTest.class })
+@SuiteClasses({ BoardManagerTest.class, PerftTest.class, GameSessionRegistryTest.class,
+		GameServerTest.class, PgnReaderTest.class, RepetitionTableTest.class, CoordinateTest.class,
+		RequestReaderTest.class, BoardTest.class, AttackTablesTest.class, PositionTest.class,
+		FenTest.class, CheckAnalysisTest.class, ValidationResultTest.class })
 public class ChessTestSuite {
 
 }
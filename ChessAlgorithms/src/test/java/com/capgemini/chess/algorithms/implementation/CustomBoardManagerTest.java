@@ -30,9 +30,8 @@ public class CustomBoardManagerTest {
 
 		// when
 		MoveValidator moveValidator = new BishopMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(5, 1));
-		MoveType checkedMoveType = moveValidator.getTypeOfTheValidatedMove();
+		MoveType checkedMoveType = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(5, 1));
+		boolean result = checkedMoveType != null;
 
 		// then
 		assertEquals(true, result);
@@ -215,9 +214,8 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new RookMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(3, 0));
-		MoveType checkedMoveType = moveValidator.getTypeOfTheValidatedMove();
+		MoveType checkedMoveType = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(3, 0));
+		boolean result = checkedMoveType != null;
 
 		// then
 		assertEquals(true, result);
@@ -238,9 +236,8 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new RookMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(3, 2));
-		MoveType checkedMoveType = moveValidator.getTypeOfTheValidatedMove();
+		MoveType checkedMoveType = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(3, 2));
+		boolean result = checkedMoveType != null;
 
 		// then
 		assertEquals(true, result);
@@ -288,8 +285,7 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new RookMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(3, 0));
+		boolean result = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(3, 0)) != null;
 
 		// then
 		assertEquals(false, result);
@@ -328,9 +324,8 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new QueenMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(3, 0));
-		MoveType checkedMoveType = moveValidator.getTypeOfTheValidatedMove();
+		MoveType checkedMoveType = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(3, 0));
+		boolean result = checkedMoveType != null;
 
 		// then
 		assertEquals(true, result);
@@ -351,9 +346,8 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new QueenMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(3, 2));
-		MoveType checkedMoveType = moveValidator.getTypeOfTheValidatedMove();
+		MoveType checkedMoveType = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(3, 2));
+		boolean result = checkedMoveType != null;
 
 		// then
 		assertEquals(true, result);
@@ -404,9 +398,8 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new KnightMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(2, 4), new Coordinate(3, 2));
-		MoveType checkedMoveType = moveValidator.getTypeOfTheValidatedMove();
+		MoveType checkedMoveType = moveValidator.validate(board, new Coordinate(2, 4), new Coordinate(3, 2));
+		boolean result = checkedMoveType != null;
 
 		// then
 		assertEquals(true, result);
@@ -427,9 +420,8 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new KnightMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(2, 4), new Coordinate(3, 2));
-		MoveType checkedMoveType = moveValidator.getTypeOfTheValidatedMove();
+		MoveType checkedMoveType = moveValidator.validate(board, new Coordinate(2, 4), new Coordinate(3, 2));
+		boolean result = checkedMoveType != null;
 
 		// then
 		assertEquals(true, result);
@@ -451,8 +443,7 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new KnightMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(2, 4), new Coordinate(1, 3));
+		boolean result = moveValidator.validate(board, new Coordinate(2, 4), new Coordinate(1, 3)) != null;
 
 		// then
 		assertEquals(false, result);
@@ -477,8 +468,7 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new BlackPawnMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(3, 4));
+		boolean result = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(3, 4)) != null;
 
 		// then
 		assertEquals(false, result);
@@ -500,8 +490,7 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new BlackPawnMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(3, 1));
+		boolean result = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(3, 1)) != null;
 
 		// then
 		assertEquals(false, result);
@@ -523,8 +512,7 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new BlackPawnMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(2, 2));
+		boolean result = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(2, 2)) != null;
 
 		// then
 		assertEquals(false, result);
@@ -547,9 +535,8 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new BlackPawnMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(4, 2));
-		MoveType checkedMoveType = moveValidator.getTypeOfTheValidatedMove();
+		MoveType checkedMoveType = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(4, 2));
+		boolean result = checkedMoveType != null;
 
 		// then
 		assertEquals(true, result);
@@ -578,9 +565,8 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new BlackPawnMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(2, 2));
-		MoveType checkedMoveType = moveValidator.getTypeOfTheValidatedMove();
+		MoveType checkedMoveType = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(2, 2));
+		boolean result = checkedMoveType != null;
 
 		// then
 		assertEquals(true, result);
@@ -604,8 +590,7 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new KingMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(3, 0));
+		boolean result = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(3, 0)) != null;
 
 		// then
 		assertEquals(false, result);
@@ -625,9 +610,8 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new KingMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(3, 2));
-		MoveType checkedMoveType = moveValidator.getTypeOfTheValidatedMove();
+		MoveType checkedMoveType = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(3, 2));
+		boolean result = checkedMoveType != null;
 
 		// then
 		assertEquals(true, result);
@@ -648,9 +632,8 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new KingMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(4, 2));
-		MoveType checkedMoveType = moveValidator.getTypeOfTheValidatedMove();
+		MoveType checkedMoveType = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(4, 2));
+		boolean result = checkedMoveType != null;
 
 		// then
 		assertEquals(true, result);
@@ -670,9 +653,8 @@ public class CustomBoardManagerTest {
 		// when
 
 		MoveValidator moveValidator = new KingMoveValidator();
-		moveValidator.setCurrentBoard(board);
-		boolean result = moveValidator.isMovePossible(new Coordinate(3, 3), new Coordinate(4, 2));
-		MoveType checkedMoveType = moveValidator.getTypeOfTheValidatedMove();
+		MoveType checkedMoveType = moveValidator.validate(board, new Coordinate(3, 3), new Coordinate(4, 2));
+		boolean result = checkedMoveType != null;
 
 		// then
 		assertEquals(true, result);
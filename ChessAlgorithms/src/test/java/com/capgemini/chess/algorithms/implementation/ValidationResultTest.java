@@ -0,0 +1,61 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.implementation.exceptions.KingInCheckException;
+
+/**
+ * Test class for reporting validation failures with {@link ValidationResult}
+ * codes, which become exceptions only in {@link BoardManager#performMove}
+ *
+ */
+public class ValidationResultTest {
+
+	@Test
+	public void testEveryFailureCreatesExceptionWithMessage() {
+		for (ValidationResult validationResult : ValidationResult.values()) {
+			if (validationResult.isValid()) {
+				continue;
+			}
+
+			// when
+			InvalidMoveException exception = validationResult.toException();
+
+			// then
+			assertNotNull(exception.getMessage());
+			assertEquals(validationResult == ValidationResult.KING_IN_CHECK,
+					exception instanceof KingInCheckException);
+		}
+	}
+
+	@Test
+	public void testInvalidMoveThrownOnlyByPerformMove() {
+		// given
+		Board board = Board.fromFen("4r2k/8/4B3/8/8/8/8/4K3 w - - 0 1");
+		BoardManager boardManager = new BoardManager(board);
+		String fenBeforeMove = board.toFen();
+		long keyBeforeMove = board.getZobristKey();
+
+		// when
+		MoveList bishopMoves = boardManager.generateLegalMoves(new Coordinate(4, 5));
+		boolean exceptionThrown = false;
+		try {
+			boardManager.performMove(new Coordinate(4, 5), new Coordinate(7, 2));
+		} catch (InvalidMoveException e) {
+			exceptionThrown = e instanceof KingInCheckException;
+		}
+
+		// then
+		assertEquals(0, bishopMoves.size());
+		assertTrue(exceptionThrown);
+		assertEquals(fenBeforeMove, board.toFen());
+		assertEquals(keyBeforeMove, board.getZobristKey());
+		assertEquals(0, board.getMoveHistory().size());
+	}
+}
@@ -0,0 +1,110 @@
+package com.capgemini.chess.algorithms.perft;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Test class for counting nodes of the tree of legal moves
+ *
+ */
+public class PerftTest {
+
+	private static final int MAX_TESTED_DEPTH = 3;
+
+	@Test
+	public void testPerftReferencePositions() {
+		for (PerftPosition position : PerftPosition.values()) {
+			// given
+			Perft perft = new Perft(position.getFen());
+
+			for (int depth = 1; depth <= MAX_TESTED_DEPTH; depth++) {
+				// when
+				long nodes = perft.perft(depth);
+
+				// then
+				assertEquals(position + " depth " + depth, position.getExpectedNodes(depth), nodes);
+			}
+		}
+	}
+
+	@Test
+	public void testDivideSumsUpToPerft() {
+		// given
+		Perft perft = new Perft(PerftPosition.KIWIPETE.getFen());
+
+		// when
+		Map<String, Long> nodesByMove = perft.divide(2);
+
+		// then
+		long totalNodes = 0;
+		for (long nodes : nodesByMove.values()) {
+			totalNodes += nodes;
+		}
+		assertEquals(48, nodesByMove.size());
+		assertEquals(PerftPosition.KIWIPETE.getExpectedNodes(2), totalNodes);
+		assertTrue(nodesByMove.containsKey("e1g1"));
+		assertTrue(nodesByMove.containsKey("e1c1"));
+	}
+
+	@Test
+	public void testDivideWritesPromotionPiece() {
+		// given
+		Perft perft = new Perft("8/P6k/8/8/8/8/8/K7 w - - 0 1");
+
+		// when
+		Map<String, Long> nodesByMove = perft.divide(1);
+
+		// then
+		assertEquals(7, nodesByMove.size());
+		assertTrue(nodesByMove.containsKey("a7a8q"));
+		assertTrue(nodesByMove.containsKey("a7a8n"));
+	}
+
+	@Test
+	public void testPerftIgnoresFiftyMoveRule() {
+		// given
+		String fen = "4k3/8/8/8/8/8/8/4K2R w K - 99 80";
+		ForkJoinPool pool = new ForkJoinPool(2);
+
+		// when
+		long nodes = new Perft(fen).perft(3);
+		long parallelNodes;
+		try {
+			parallelNodes = new ParallelPerft(Board.fromFen(fen), pool, 2, 0).perft(3);
+		} finally {
+			pool.shutdown();
+		}
+
+		// then
+		assertEquals(1197, nodes);
+		assertEquals(1197, parallelNodes);
+	}
+
+	@Test
+	public void testParallelPerftWithSharedHashTable() {
+		// given
+		ForkJoinPool pool = new ForkJoinPool(4);
+		Board board = Board.fromFen(PerftPosition.KIWIPETE.getFen());
+		long keyBeforePerft = board.getZobristKey();
+		ParallelPerft perft = new ParallelPerft(board, pool, 2, 1);
+
+		// when
+		long nodes;
+		try {
+			nodes = perft.perft(MAX_TESTED_DEPTH);
+		} finally {
+			pool.shutdown();
+		}
+
+		// then
+		assertEquals(PerftPosition.KIWIPETE.getExpectedNodes(MAX_TESTED_DEPTH), nodes);
+		assertEquals(keyBeforePerft, board.getZobristKey());
+		assertTrue(board.getEncodedMoveHistory().isEmpty());
+	}
+}
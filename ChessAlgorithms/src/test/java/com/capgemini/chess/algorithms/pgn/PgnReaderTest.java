@@ -0,0 +1,140 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.perft.Perft;
+
+/**
+ * Test class for reading games in Portable Game Notation
+ *
+ */
+public class PgnReaderTest {
+
+	private static final String GAMES = "[Event \"Test \\\"one\\\"\"]\n"
+			+ "[Site \"?\"]\n"
+			+ "[Result \"1/2-1/2\"]\n"
+			+ "\n"
+			+ "1. e4 e5 2. Nf3 Nc6 3. Bb5 a6 {Ruy Lopez} 4. Ba4 Nf6 5. O-O Be7 (5... b5 6. Bb3 {main line}) 6. Re1 $1\n"
+			+ "b5 7. Bb3 d6 ; closed\n"
+			+ "8. c3 O-O 1/2-1/2\n"
+			+ "\n"
+			+ "[Event \"Promotion\"]\n"
+			+ "[SetUp \"1\"]\n"
+			+ "[FEN \"r3k3/1P6/8/8/8/8/8/R3K2R w KQq - 0 1\"]\n"
+			+ "\n"
+			+ "1. bxa8=Q+ Ke7 2. O-O-O Kf6 3. Rhe1! 1-0\n";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void testReadGamesFromFile() throws IOException {
+		// given
+		Path file = temporaryFolder.newFile("games.pgn").toPath();
+		Files.write(file, GAMES.getBytes(StandardCharsets.ISO_8859_1));
+		RecordingHandler handler = new RecordingHandler();
+		// windows much smaller than tokens, to read across their boundaries
+		PgnReader reader = new PgnReader(handler, 7);
+
+		// when
+		long gamesRead = reader.read(file);
+
+		// then
+		assertEquals(2, gamesRead);
+		assertEquals("Event=Test \"one\"", handler.headers.get(0));
+		assertEquals("FEN=r3k3/1P6/8/8/8/8/8/R3K2R w KQq - 0 1", handler.headers.get(5));
+		assertEquals(21, handler.moves.size());
+		assertEquals("e1g1", handler.moves.get(8));
+		assertEquals("b7a8q", handler.moves.get(16));
+		assertEquals("e1c1", handler.moves.get(18));
+		assertEquals("h1e1", handler.moves.get(20));
+		assertEquals("r1bq1rk1/2p1bppp/p1np1n2/1p2p3/4P3/1BP2N2/PP1P1PPP/RNBQR1K1 w - - 1 9 1/2-1/2",
+				handler.results.get(0));
+		assertEquals("Q7/8/5k2/8/8/8/8/2KRR3 b - - 4 3 1-0", handler.results.get(1));
+	}
+
+	@Test
+	public void testReadGameWithoutHeadersAndResult() {
+		// given
+		RecordingHandler handler = new RecordingHandler();
+		PgnReader reader = new PgnReader(handler);
+
+		// when
+		long gamesRead = reader.read(ByteBuffer.wrap("1.d4 d5 2.c4 dxc4".getBytes(StandardCharsets.ISO_8859_1)));
+
+		// then
+		assertEquals(1, gamesRead);
+		assertEquals(4, handler.moves.size());
+		assertEquals("d5c4", handler.moves.get(3));
+		assertEquals("rnbqkbnr/ppp1pppp/8/8/2pP4/8/PP2PPPP/RNBQKBNR w KQkq - 0 3 *", handler.results.get(0));
+	}
+
+	@Test
+	public void testReadEscapedLines() {
+		// given
+		RecordingHandler handler = new RecordingHandler();
+		PgnReader reader = new PgnReader(handler);
+
+		// when
+		long gamesRead = reader.read(ByteBuffer.wrap("%escaped e4\n1. d4 d5\n%2. e4\n2. c4 *"
+				.getBytes(StandardCharsets.ISO_8859_1)));
+
+		// then
+		assertEquals(1, gamesRead);
+		assertEquals(3, handler.moves.size());
+		assertEquals("c2c4", handler.moves.get(2));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testReadEscapeNotInFirstColumn() {
+		// given
+		PgnReader reader = new PgnReader(new RecordingHandler());
+
+		// when
+		reader.read(ByteBuffer.wrap("1. d4 d5 %2. e4\n2. c4 *".getBytes(StandardCharsets.ISO_8859_1)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testReadIllegalMove() {
+		// given
+		PgnReader reader = new PgnReader(new RecordingHandler());
+
+		// when
+		reader.read(ByteBuffer.wrap("1. e4 e5 2. Ke3 *".getBytes(StandardCharsets.ISO_8859_1)));
+	}
+
+	private static class RecordingHandler implements PgnGameHandler {
+
+		private final List<String> headers = new ArrayList<>();
+		private final List<String> moves = new ArrayList<>();
+		private final List<String> results = new ArrayList<>();
+
+		@Override
+		public void header(CharSequence name, CharSequence value) {
+			headers.add(name + "=" + value);
+		}
+
+		@Override
+		public void move(Board board, int move) {
+			moves.add(Perft.toCoordinateNotation(move));
+		}
+
+		@Override
+		public void endGame(Board board, CharSequence result) {
+			results.add(board.toFen() + " " + result);
+		}
+	}
+}
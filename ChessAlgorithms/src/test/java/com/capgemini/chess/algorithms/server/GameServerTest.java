@@ -0,0 +1,64 @@
+package com.capgemini.chess.algorithms.server;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.session.GameSessionRegistry;
+
+/**
+ * Test class for testing {@link GameServer}
+ *
+ */
+public class GameServerTest {
+
+	@Test
+	public void testServerPlaysGameOverSocket() throws Exception {
+		// given
+		GameSessionRegistry registry = new GameSessionRegistry();
+		try (GameServer server = new GameServer(0, registry);
+				Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+				BufferedReader reader = new BufferedReader(
+						new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+			OutputStream output = socket.getOutputStream();
+
+			// when
+			output.write("NEW game\nMOVE game e2 e4\nMOVE game e2 e4\nSTATE game\n"
+					.getBytes(StandardCharsets.US_ASCII));
+			output.flush();
+
+			// then
+			assertEquals("OK", reader.readLine());
+			assertEquals("OK ATTACK REGULAR", reader.readLine());
+			assertTrue(reader.readLine().startsWith("ERROR"));
+			assertEquals("OK REGULAR", reader.readLine());
+			assertEquals(1, registry.getPerformedMoveCount());
+		}
+	}
+
+	@Test
+	public void testHandleRequestInvalid() throws Exception {
+		// given
+		try (GameServer server = new GameServer(0, new GameSessionRegistry())) {
+
+			// when
+			String unknownCommandResponse = server.handleRequest("PLAY");
+			String unknownGameResponse = server.handleRequest("STATE game");
+			String missingArgumentsResponse = server.handleRequest("MOVE game e2");
+			String quitResponse = server.handleRequest("QUIT");
+
+			// then
+			assertEquals("ERROR Unknown command PLAY", unknownCommandResponse);
+			assertEquals("ERROR There is no game with id game", unknownGameResponse);
+			assertEquals("ERROR MOVE expects 3 arguments", missingArgumentsResponse);
+			assertNull(quitResponse);
+		}
+	}
+}
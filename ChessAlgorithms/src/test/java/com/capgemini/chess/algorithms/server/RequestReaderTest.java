@@ -0,0 +1,73 @@
+package com.capgemini.chess.algorithms.server;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Test class for reading request lines with {@link RequestReader}
+ *
+ */
+public class RequestReaderTest {
+
+	@Test
+	public void testReadLinesSentTogetherAndInPieces() throws IOException {
+		// given
+		byte[] requests = "NEW game\nMOVE game e2 e4\r\nSTATE game".getBytes(StandardCharsets.US_ASCII);
+		RequestReader reader = new RequestReader(new PieceByPieceInputStream(requests, 3));
+
+		// when
+		String first = reader.readLine();
+		String second = reader.readLine();
+		String third = reader.readLine();
+		String end = reader.readLine();
+
+		// then
+		assertEquals("NEW game", first);
+		assertEquals("MOVE game e2 e4\r", second);
+		assertEquals("STATE game", third);
+		assertNull(end);
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadTooLongLine() throws IOException {
+		// given
+		byte[] request = new byte[RequestReader.MAX_REQUEST_LENGTH + 1];
+		Arrays.fill(request, (byte) 'a');
+		RequestReader reader = new RequestReader(new ByteArrayInputStream(request));
+
+		// when
+		reader.readLine();
+	}
+
+	/**
+	 * Stream returning at most given number of bytes per read, like a socket
+	 * receiving a request in many packets.
+	 */
+	private static class PieceByPieceInputStream extends InputStream {
+
+		private final ByteArrayInputStream input;
+		private final int pieceLength;
+
+		PieceByPieceInputStream(byte[] bytes, int pieceLength) {
+			this.input = new ByteArrayInputStream(bytes);
+			this.pieceLength = pieceLength;
+		}
+
+		@Override
+		public int read() {
+			return input.read();
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			return input.read(bytes, offset, Math.min(length, pieceLength));
+		}
+	}
+}
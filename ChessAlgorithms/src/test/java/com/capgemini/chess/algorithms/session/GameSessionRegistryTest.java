@@ -0,0 +1,240 @@
+package com.capgemini.chess.algorithms.session;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Test class for testing {@link GameSessionRegistry}
+ *
+ */
+public class GameSessionRegistryTest {
+
+	@Test
+	public void testPerformMovePublishesPosition() throws InvalidMoveException {
+		// given
+		GameSessionRegistry registry = new GameSessionRegistry();
+		GameSession session = registry.startGame("game");
+
+		// when
+		SessionSnapshot snapshot = registry.performMove("game", new Coordinate(4, 1), new Coordinate(4, 3));
+
+		// then
+		assertSame(snapshot, session.getSnapshot());
+		assertEquals(MoveType.ATTACK, snapshot.getLastMove().getType());
+		assertEquals(Piece.WHITE_PAWN, snapshot.getPosition().getPieceAt(new Coordinate(4, 3)));
+		assertEquals(Color.BLACK, snapshot.getPosition().getSideToMove());
+		assertEquals(BoardState.REGULAR, snapshot.getState());
+		assertEquals(1, registry.getPerformedMoveCount());
+	}
+
+	@Test
+	public void testSnapshotLastMoveCannotBeChanged() throws InvalidMoveException {
+		// given
+		GameSessionRegistry registry = new GameSessionRegistry();
+		registry.startGame("game");
+		SessionSnapshot snapshot = registry.performMove("game", new Coordinate(4, 1), new Coordinate(4, 3));
+
+		// when
+		Move lastMove = snapshot.getLastMove();
+		lastMove.setTo(new Coordinate(4, 2));
+		lastMove.setType(MoveType.CAPTURE);
+
+		// then
+		assertEquals(new Coordinate(4, 3), snapshot.getLastMove().getTo());
+		assertEquals(MoveType.ATTACK, snapshot.getLastMove().getType());
+	}
+
+	@Test
+	public void testPerformMoveAfterCheckMateRejected() {
+		// given
+		GameSessionRegistry registry = new GameSessionRegistry();
+		registry.startGame("game",
+				Board.fromFen("rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w KQkq - 1 3").snapshot());
+
+		// when
+		boolean exceptionThrown = false;
+		try {
+			registry.performMove("game", new Coordinate(4, 1), new Coordinate(4, 2));
+		} catch (InvalidMoveException e) {
+			exceptionThrown = true;
+		}
+
+		// then
+		assertTrue(exceptionThrown);
+		assertEquals(BoardState.CHECK_MATE, registry.getSession("game").getState());
+		assertEquals(1, registry.getRejectedMoveCount());
+		assertEquals(0, registry.getPerformedMoveCount());
+	}
+
+	@Test
+	public void testPerformMovesWaitingForLockAppliedInArrivalOrder() throws Exception {
+		// given
+		GameSessionRegistry registry = new GameSessionRegistry();
+		GameSession session = registry.startGame("game");
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		Future<?> whiteMove;
+		Future<?> blackMove;
+		session.getLock().lock();
+		try {
+			whiteMove = executor
+					.submit(() -> registry.performMove("game", new Coordinate(4, 1), new Coordinate(4, 3)));
+			while (session.getLock().getQueueLength() < 1) {
+				Thread.yield();
+			}
+			blackMove = executor
+					.submit(() -> registry.performMove("game", new Coordinate(4, 6), new Coordinate(4, 4)));
+			while (session.getLock().getQueueLength() < 2) {
+				Thread.yield();
+			}
+		} finally {
+			// when
+			session.getLock().unlock();
+		}
+
+		// then
+		try {
+			whiteMove.get();
+			blackMove.get();
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(2, session.getPosition().getPly());
+		assertEquals(0, registry.getRejectedMoveCount());
+	}
+
+	@Test
+	public void testRegistryCountsGames() {
+		// given
+		GameSessionRegistry registry = new GameSessionRegistry();
+		registry.startGame("first");
+		registry.startGame("second");
+
+		// when
+		boolean ended = registry.endGame("first");
+		boolean endedTwice = registry.endGame("first");
+
+		// then
+		assertTrue(ended);
+		assertFalse(endedTwice);
+		assertEquals(1, registry.getLiveGameCount());
+		assertEquals(2, registry.getStartedGameCount());
+		assertEquals(1, registry.getEndedGameCount());
+	}
+
+	@Test
+	public void testPerformMoveInvalidRejectedAndCounted() {
+		// given
+		GameSessionRegistry registry = new GameSessionRegistry();
+		registry.startGame("game");
+
+		// when
+		boolean exceptionThrown = false;
+		try {
+			registry.performMove("game", new Coordinate(4, 1), new Coordinate(4, 4));
+		} catch (InvalidMoveException e) {
+			exceptionThrown = true;
+		}
+
+		// then
+		assertTrue(exceptionThrown);
+		assertEquals(1, registry.getRejectedMoveCount());
+		assertEquals(0, registry.getPerformedMoveCount());
+	}
+
+	@Test
+	public void testPerformMoveWaitingForEndedGameRejected() throws Exception {
+		// given
+		GameSessionRegistry registry = new GameSessionRegistry();
+		GameSession session = registry.startGame("game");
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		session.getLock().lock();
+		Future<?> move;
+		try {
+			move = executor.submit(() -> registry.performMove("game", new Coordinate(4, 1), new Coordinate(4, 3)));
+			while (!session.getLock().hasQueuedThreads()) {
+				Thread.yield();
+			}
+
+			// when
+			registry.endGame("game");
+		} finally {
+			session.getLock().unlock();
+		}
+
+		// then
+		try {
+			move.get();
+			fail("Move in the ended game was performed");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalArgumentException);
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(0, session.getPosition().getPly());
+		assertEquals(0, registry.getPerformedMoveCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testStartGameWithUsedId() {
+		// given
+		GameSessionRegistry registry = new GameSessionRegistry();
+		registry.startGame("game");
+
+		// when
+		registry.startGame("game");
+	}
+
+	@Test
+	public void testPerformMovesInManyGamesConcurrently() throws Exception {
+		// given
+		int numberOfGames = 200;
+		GameSessionRegistry registry = new GameSessionRegistry();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		// when
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < numberOfGames; i++) {
+				String gameId = "game" + i;
+				registry.startGame(gameId);
+				futures.add(executor.submit(() -> {
+					// knights going back and forth
+					for (int j = 0; j < 5; j++) {
+						registry.performMove(gameId, new Coordinate(6, 0), new Coordinate(5, 2));
+						registry.performMove(gameId, new Coordinate(6, 7), new Coordinate(5, 5));
+						registry.performMove(gameId, new Coordinate(5, 2), new Coordinate(6, 0));
+						registry.performMove(gameId, new Coordinate(5, 5), new Coordinate(6, 7));
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		// then
+		assertEquals(numberOfGames * 20L, registry.getPerformedMoveCount());
+		assertEquals(numberOfGames, registry.getLiveGameCount());
+		assertEquals(20, registry.getSession("game0").getPosition().getPly());
+	}
+}
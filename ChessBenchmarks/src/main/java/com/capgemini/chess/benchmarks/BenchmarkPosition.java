@@ -0,0 +1,23 @@
+package com.capgemini.chess.benchmarks;
+
+/**
+ * Fixed corpus of positions the benchmarks are run on, all with white to
+ * move, every type of white piece and black pawns on the board.
+ *
+ */
+public enum BenchmarkPosition {
+
+	OPENING("r1bqkb1r/pppp1ppp/2n2n2/4p3/2B1P3/5N2/PPPP1PPP/RNBQK2R w KQkq - 4 4"),
+	MIDDLEGAME("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10"),
+	ENDGAME("2r3k1/5pp1/4b2p/1q6/3N4/1Q4P1/4BPKP/2R5 w - - 0 32");
+
+	private final String fen;
+
+	BenchmarkPosition(String fen) {
+		this.fen = fen;
+	}
+
+	public String getFen() {
+		return fen;
+	}
+}
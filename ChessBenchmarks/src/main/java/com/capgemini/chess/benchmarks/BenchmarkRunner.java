@@ -0,0 +1,265 @@
+package com.capgemini.chess.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the allocation profiler and compares allocation
+ * per operation with the allocation baseline stored in the repository. Any
+ * growth of allocation and benchmarks missing from the baseline are reported
+ * as regressions. Throughput and latency scores depend on the machine, so no
+ * baseline is stored for them - they are printed for information only.
+ *
+ * Arguments: [--save-baseline] [benchmark name pattern]. With
+ * --save-baseline the measured allocation replaces its entries in the stored
+ * baseline.
+ *
+ */
+public class BenchmarkRunner {
+
+	private static final Path BASELINE_FILE = Paths.get("baseline", "allocation-baseline.json");
+	private static final String RESULT_FILE = "jmh-result.json";
+	private static final String ALLOCATION_RESULT_SUFFIX = "gc.alloc.rate.norm";
+	// allowed growth of allocation, covering the measurement noise
+	private static final double ALLOCATION_TOLERANCE_IN_BYTES = 1.0;
+
+	public static void main(String[] args) throws RunnerException, IOException {
+		boolean saveBaseline = args.length > 0 && "--save-baseline".equals(args[0]);
+		String benchmarkPattern = args.length > (saveBaseline ? 1 : 0) ? args[args.length - 1]
+				: BenchmarkRunner.class.getPackage().getName() + ".*";
+
+		Options options = new OptionsBuilder().include(benchmarkPattern).addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON).result(RESULT_FILE).build();
+		Collection<RunResult> runResults = new Runner(options).run();
+
+		List<BenchmarkResult> results = new ArrayList<>();
+		for (RunResult runResult : runResults) {
+			results.add(BenchmarkResult.of(runResult));
+		}
+
+		if (saveBaseline) {
+			Map<String, Double> baseline = Files.exists(BASELINE_FILE) ? loadBaseline() : new LinkedHashMap<>();
+			Map<String, Double> measured = new LinkedHashMap<>();
+			for (BenchmarkResult result : results) {
+				measured.merge(result.name, result.allocatedBytesPerOperation, Math::max);
+			}
+			baseline.putAll(measured);
+			saveBaseline(baseline);
+			System.out.println("Baseline saved to " + BASELINE_FILE.toAbsolutePath());
+		} else if (!Files.exists(BASELINE_FILE)) {
+			System.out.println("No baseline found at " + BASELINE_FILE.toAbsolutePath());
+			System.exit(1);
+		} else {
+			int regressions = compareWithBaseline(results, loadBaseline());
+			if (regressions > 0) {
+				System.out.println(regressions + " regressions found");
+				System.exit(1);
+			}
+		}
+	}
+
+	private static int compareWithBaseline(List<BenchmarkResult> results, Map<String, Double> baseline) {
+		int regressions = 0;
+		System.out.println();
+		System.out.println("Comparison with the allocation baseline:");
+		for (BenchmarkResult result : results) {
+			Double baselineAllocation = baseline.get(result.name);
+			if (baselineAllocation == null) {
+				System.out.println(result.name + ": not in the baseline - REGRESSION");
+				regressions++;
+				continue;
+			}
+
+			boolean allocatesMore = result.allocatedBytesPerOperation > baselineAllocation
+					+ ALLOCATION_TOLERANCE_IN_BYTES;
+			System.out.println(String.format(Locale.ROOT, "%s: %.1f B/op (baseline %.1f), %.3f %s%s", result.name,
+					result.allocatedBytesPerOperation, baselineAllocation, result.score, result.unit,
+					allocatesMore ? " - REGRESSION" : ""));
+			if (allocatesMore) {
+				regressions++;
+			}
+		}
+		return regressions;
+	}
+
+	private static Map<String, Double> loadBaseline() throws IOException {
+		String json = new String(Files.readAllBytes(BASELINE_FILE), StandardCharsets.UTF_8);
+		Map<String, Double> baseline = new LinkedHashMap<>();
+		for (Map<String, Object> entry : new BaselineParser(json).parseEntries()) {
+			baseline.put((String) entry.get("benchmark"),
+					((Number) entry.get("allocatedBytesPerOperation")).doubleValue());
+		}
+		return baseline;
+	}
+
+	private static void saveBaseline(Map<String, Double> baseline) throws IOException {
+		List<String> lines = new ArrayList<>();
+		lines.add("[");
+		int index = 0;
+		for (Map.Entry<String, Double> entry : baseline.entrySet()) {
+			lines.add("  {\"benchmark\": \"" + entry.getKey() + "\", \"allocatedBytesPerOperation\": "
+					+ entry.getValue() + "}" + (++index < baseline.size() ? "," : ""));
+		}
+		lines.add("]");
+		Files.createDirectories(BASELINE_FILE.getParent());
+		Files.write(BASELINE_FILE, lines, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Allocation and primary score of one benchmark in one mode with one set
+	 * of parameters. The name leaves out the mode, as allocation per
+	 * operation does not depend on it.
+	 */
+	private static class BenchmarkResult {
+
+		private final String name;
+		private final double score;
+		private final String unit;
+		private final double allocatedBytesPerOperation;
+
+		private BenchmarkResult(String name, double score, String unit, double allocatedBytesPerOperation) {
+			this.name = name;
+			this.score = score;
+			this.unit = unit;
+			this.allocatedBytesPerOperation = allocatedBytesPerOperation;
+		}
+
+		static BenchmarkResult of(RunResult runResult) {
+			BenchmarkParams params = runResult.getParams();
+			StringBuilder name = new StringBuilder(params.getBenchmark());
+			for (String key : params.getParamsKeys()) {
+				name.append(' ').append(key).append('=').append(params.getParam(key));
+			}
+
+			double allocatedBytesPerOperation = 0;
+			for (Map.Entry<String, Result> secondaryResult : runResult.getSecondaryResults().entrySet()) {
+				if (secondaryResult.getKey().endsWith(ALLOCATION_RESULT_SUFFIX)) {
+					allocatedBytesPerOperation = secondaryResult.getValue().getScore();
+				}
+			}
+
+			Result primaryResult = runResult.getPrimaryResult();
+			return new BenchmarkResult(name.toString(), primaryResult.getScore(), primaryResult.getScoreUnit(),
+					allocatedBytesPerOperation);
+		}
+	}
+
+	/**
+	 * Parser of the baseline file - an array of flat objects with string,
+	 * number, boolean and null values. Strings of the baseline contain no
+	 * escape sequences.
+	 */
+	private static class BaselineParser {
+
+		private final String json;
+		private int index;
+
+		BaselineParser(String json) {
+			this.json = json;
+		}
+
+		List<Map<String, Object>> parseEntries() {
+			List<Map<String, Object>> entries = new ArrayList<>();
+			expect('[');
+			if (peek() == ']') {
+				index++;
+				return entries;
+			}
+			do {
+				entries.add(parseEntry());
+			} while (skipComma());
+			expect(']');
+			return entries;
+		}
+
+		private Map<String, Object> parseEntry() {
+			Map<String, Object> entry = new LinkedHashMap<>();
+			expect('{');
+			do {
+				String key = parseString();
+				expect(':');
+				entry.put(key, parseValue());
+			} while (skipComma());
+			expect('}');
+			return entry;
+		}
+
+		private Object parseValue() {
+			char first = peek();
+			if (first == '"') {
+				return parseString();
+			}
+			int start = index;
+			while (index < json.length() && ",}] \t\r\n".indexOf(json.charAt(index)) < 0) {
+				index++;
+			}
+			String literal = json.substring(start, index);
+			switch (literal) {
+			case "null":
+				return null;
+			case "true":
+				return Boolean.TRUE;
+			case "false":
+				return Boolean.FALSE;
+			default:
+				try {
+					return Double.valueOf(literal);
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException("Invalid value " + literal + " in " + BASELINE_FILE);
+				}
+			}
+		}
+
+		private String parseString() {
+			expect('"');
+			int end = json.indexOf('"', index);
+			if (end < 0) {
+				throw new IllegalArgumentException("Unterminated string in " + BASELINE_FILE);
+			}
+			String value = json.substring(index, end);
+			index = end + 1;
+			return value;
+		}
+
+		private boolean skipComma() {
+			if (peek() == ',') {
+				index++;
+				return true;
+			}
+			return false;
+		}
+
+		private void expect(char expected) {
+			if (peek() != expected) {
+				throw new IllegalArgumentException("Expected " + expected + " at " + index + " in " + BASELINE_FILE);
+			}
+			index++;
+		}
+
+		private char peek() {
+			while (index < json.length() && Character.isWhitespace(json.charAt(index))) {
+				index++;
+			}
+			return index < json.length() ? json.charAt(index) : 0;
+		}
+	}
+}
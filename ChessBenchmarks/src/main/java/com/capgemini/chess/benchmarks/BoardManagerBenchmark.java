@@ -0,0 +1,131 @@
+package com.capgemini.chess.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.EncodedMove;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Benchmarks of the public operations of the board manager, called after
+ * every move of a game.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardManagerBenchmark {
+
+	private static final int REPLAYED_PLIES = 200;
+	// step through the generated moves, co-prime with typical list sizes
+	private static final int MOVE_CHOICE_STEP = 7;
+
+	@Param
+	public BenchmarkPosition position;
+
+	private Board board;
+	private BoardManager boardManager;
+	private Coordinate moveFrom;
+	private Coordinate moveTo;
+	private BoardManager replayedGameManager;
+
+	@Setup
+	public void setUp() {
+		board = Board.fromFen(position.getFen());
+		boardManager = new BoardManager(board);
+
+		// the move in the middle of the generation order, so that the
+		// validation of the first piece is not measured only
+		MoveList legalMoves = boardManager.generateLegalMoves();
+		int move = legalMoves.get(legalMoves.size() / 2);
+		moveFrom = new Coordinate(EncodedMove.getFrom(move) % Board.SIZE, EncodedMove.getFrom(move) / Board.SIZE);
+		moveTo = new Coordinate(EncodedMove.getTo(move) % Board.SIZE, EncodedMove.getTo(move) / Board.SIZE);
+
+		replayedGameManager = replayGame(position, REPLAYED_PLIES);
+	}
+
+	/**
+	 * Validates and makes the move, then takes it back so that every
+	 * invocation starts from the same position.
+	 */
+	@Benchmark
+	public Move performMove() throws InvalidMoveException {
+		Move move = boardManager.performMove(moveFrom, moveTo);
+		boardManager.unmakeMove();
+		return move;
+	}
+
+	/**
+	 * Computes the state, dropping the one cached on the board first.
+	 */
+	@Benchmark
+	public BoardState updateBoardState() {
+		board.setState(null);
+		return boardManager.updateBoardState();
+	}
+
+	@Benchmark
+	public BoardState updateBoardStateCached() {
+		return boardManager.updateBoardState();
+	}
+
+	/**
+	 * Checks the rule in a game with long move history.
+	 */
+	@Benchmark
+	public boolean checkThreefoldRepetitionRule() {
+		return replayedGameManager.checkThreefoldRepetitionRule();
+	}
+
+	/**
+	 * Checks the rule in a game with long move history.
+	 */
+	@Benchmark
+	public boolean checkFiftyMoveRule() {
+		return replayedGameManager.checkFiftyMoveRule();
+	}
+
+	/**
+	 * Plays a deterministic sequence of legal moves from the position, so
+	 * that the rules are checked against a history of captures, pawn moves
+	 * and repeated positions like in a real game.
+	 *
+	 * @param position
+	 *            position the game starts from
+	 * @param plies
+	 *            number of moves to play, fewer if the game ends earlier
+	 * @return manager of the board with the played moves
+	 */
+	private static BoardManager replayGame(BenchmarkPosition position, int plies) {
+		BoardManager gameManager = new BoardManager(Board.fromFen(position.getFen()));
+		MoveList legalMoves = new MoveList();
+		for (int ply = 0; ply < plies; ply++) {
+			gameManager.generateLegalMovesIgnoringFiftyMoveRule(legalMoves);
+			if (legalMoves.isEmpty()) {
+				break;
+			}
+			gameManager.makeMove(legalMoves.get((ply * MOVE_CHOICE_STEP) % legalMoves.size()));
+		}
+		return gameManager;
+	}
+}
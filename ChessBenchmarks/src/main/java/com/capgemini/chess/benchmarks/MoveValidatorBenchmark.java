@@ -0,0 +1,122 @@
+package com.capgemini.chess.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.MoveValidator;
+import com.capgemini.chess.algorithms.data.enums.Piece;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BishopMoveValidator;
+import com.capgemini.chess.algorithms.implementation.BlackPawnMoveValidator;
+import com.capgemini.chess.algorithms.implementation.KingMoveValidator;
+import com.capgemini.chess.algorithms.implementation.KnightMoveValidator;
+import com.capgemini.chess.algorithms.implementation.QueenMoveValidator;
+import com.capgemini.chess.algorithms.implementation.RookMoveValidator;
+import com.capgemini.chess.algorithms.implementation.WhitePawnMoveValidator;
+
+/**
+ * Benchmarks of the moving rules of every piece type, with pawns of both
+ * colors as they have separate rules. Every invocation validates moves of all
+ * pieces of given kind to all squares not occupied by pieces of their color,
+ * or generates their moves.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveValidatorBenchmark {
+
+	@Param
+	public BenchmarkPosition position;
+
+	@Param({ "WHITE_KING", "WHITE_QUEEN", "WHITE_BISHOP", "WHITE_KNIGHT", "WHITE_ROOK", "WHITE_PAWN",
+			"BLACK_PAWN" })
+	public Piece piece;
+
+	private Board board;
+	private MoveValidator moveValidator;
+	private int[] fromSquares;
+	private int[] toSquares;
+	private int[] piecesSquares;
+	private MoveList moves = new MoveList();
+
+	@Setup
+	public void setUp() {
+		board = Board.fromFen(position.getFen());
+		moveValidator = createMoveValidator(piece);
+
+		long piecesBitboard = board.getPieceBitboard(piece);
+		long destinations = ~board.getOccupancy(piece.getColor());
+
+		piecesSquares = new int[Long.bitCount(piecesBitboard)];
+		fromSquares = new int[piecesSquares.length * Long.bitCount(destinations)];
+		toSquares = new int[fromSquares.length];
+
+		int pieceIndex = 0;
+		int pairIndex = 0;
+		for (int from = 0; from < Board.NUMBER_OF_SQUARES; from++) {
+			if ((piecesBitboard & (1L << from)) == 0) {
+				continue;
+			}
+			piecesSquares[pieceIndex++] = from;
+			for (int to = 0; to < Board.NUMBER_OF_SQUARES; to++) {
+				if ((destinations & (1L << to)) != 0) {
+					fromSquares[pairIndex] = from;
+					toSquares[pairIndex] = to;
+					pairIndex++;
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public void validate(Blackhole blackhole) {
+		for (int i = 0; i < fromSquares.length; i++) {
+			blackhole.consume(moveValidator.validate(board, fromSquares[i], toSquares[i]));
+		}
+	}
+
+	@Benchmark
+	public int generateMoves() {
+		moves.clear();
+		for (int from : piecesSquares) {
+			moveValidator.generateMoves(board, from, moves);
+		}
+		return moves.size();
+	}
+
+	private static MoveValidator createMoveValidator(Piece piece) {
+		switch (piece.getType()) {
+		case KING:
+			return new KingMoveValidator();
+		case QUEEN:
+			return new QueenMoveValidator();
+		case BISHOP:
+			return new BishopMoveValidator();
+		case KNIGHT:
+			return new KnightMoveValidator();
+		case ROOK:
+			return new RookMoveValidator();
+		case PAWN:
+			return piece == Piece.WHITE_PAWN ? new WhitePawnMoveValidator() : new BlackPawnMoveValidator();
+		default:
+			throw new IllegalArgumentException("Unknown piece: " + piece);
+		}
+	}
+}